@@ -44,5 +44,89 @@ public interface ValueHandler {
    *           if anything go wrong
    */
   void setValue(Object value) throws HandlingException;
+
+  /**
+   * Tries to get the value as an <code>int</code>.
+   * <p>
+   * The default implementation unboxes the value returned by {@link #getValue()}.
+   * Implementations may override it to avoid the boxing.
+   *
+   * @return the value.
+   * @throws HandlingException
+   *           if anything go wrong.
+   * @since 7.1
+   */
+  default int getInt() throws HandlingException {
+    return this.<Integer>getValue();
+  }
+
+  /**
+   * Tries to set an <code>int</code> value.
+   *
+   * @param value
+   *          the value to set.
+   * @throws HandlingException
+   *           if anything go wrong.
+   * @since 7.1
+   */
+  default void setInt(int value) throws HandlingException {
+    setValue(value);
+  }
+
+  /**
+   * Tries to get the value as a <code>long</code>.
+   * <p>
+   * The default implementation unboxes the value returned by {@link #getValue()}.
+   * Implementations may override it to avoid the boxing.
+   *
+   * @return the value.
+   * @throws HandlingException
+   *           if anything go wrong.
+   * @since 7.1
+   */
+  default long getLong() throws HandlingException {
+    return this.<Long>getValue();
+  }
+
+  /**
+   * Tries to set a <code>long</code> value.
+   *
+   * @param value
+   *          the value to set.
+   * @throws HandlingException
+   *           if anything go wrong.
+   * @since 7.1
+   */
+  default void setLong(long value) throws HandlingException {
+    setValue(value);
+  }
+
+  /**
+   * Tries to get the value as a <code>double</code>.
+   * <p>
+   * The default implementation unboxes the value returned by {@link #getValue()}.
+   * Implementations may override it to avoid the boxing.
+   *
+   * @return the value.
+   * @throws HandlingException
+   *           if anything go wrong.
+   * @since 7.1
+   */
+  default double getDouble() throws HandlingException {
+    return this.<Double>getValue();
+  }
+
+  /**
+   * Tries to set a <code>double</code> value.
+   *
+   * @param value
+   *          the value to set.
+   * @throws HandlingException
+   *           if anything go wrong.
+   * @since 7.1
+   */
+  default void setDouble(double value) throws HandlingException {
+    setValue(value);
+  }
   
 }
@@ -0,0 +1,276 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element;
+
+import com.backpackcloud.trugger.HandlingException;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * A class for handling the elements of primitive arrays without boxing them.
+ * <p>
+ * Reads accept any array whose component type widens to the requested type
+ * (a <code>short[]</code> can be read as <code>int</code> values, for
+ * example) and writes accept any array whose component type can receive the
+ * given type. Other combinations throw a {@link HandlingException}.
+ *
+ * @since 7.1
+ */
+public final class ArrayElements {
+
+  private static final VarHandle BYTES = MethodHandles.arrayElementVarHandle(byte[].class);
+  private static final VarHandle SHORTS = MethodHandles.arrayElementVarHandle(short[].class);
+  private static final VarHandle CHARS = MethodHandles.arrayElementVarHandle(char[].class);
+  private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+  private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+  private static final VarHandle FLOATS = MethodHandles.arrayElementVarHandle(float[].class);
+  private static final VarHandle DOUBLES = MethodHandles.arrayElementVarHandle(double[].class);
+
+  private ArrayElements() {
+  }
+
+  /**
+   * Reads an element as an <code>int</code>.
+   */
+  public static int getInt(Object array, int index) throws HandlingException {
+    Class<?> type = componentType(array);
+    if (type == int.class) {
+      return (int) INTS.get((int[]) array, index);
+    }
+    if (type == short.class) {
+      return (short) SHORTS.get((short[]) array, index);
+    }
+    if (type == byte.class) {
+      return (byte) BYTES.get((byte[]) array, index);
+    }
+    if (type == char.class) {
+      return (char) CHARS.get((char[]) array, index);
+    }
+    throw unsupported(array, int.class);
+  }
+
+  /**
+   * Reads an element as a <code>long</code>.
+   */
+  public static long getLong(Object array, int index) throws HandlingException {
+    if (componentType(array) == long.class) {
+      return (long) LONGS.get((long[]) array, index);
+    }
+    return getInt(array, index);
+  }
+
+  /**
+   * Reads an element as a <code>double</code>.
+   */
+  public static double getDouble(Object array, int index) throws HandlingException {
+    Class<?> type = componentType(array);
+    if (type == double.class) {
+      return (double) DOUBLES.get((double[]) array, index);
+    }
+    if (type == float.class) {
+      return (float) FLOATS.get((float[]) array, index);
+    }
+    return getLong(array, index);
+  }
+
+  /**
+   * Writes an <code>int</code> element.
+   */
+  public static void setInt(Object array, int index, int value) throws HandlingException {
+    if (componentType(array) == int.class) {
+      INTS.set((int[]) array, index, value);
+    } else {
+      setLong(array, index, value);
+    }
+  }
+
+  /**
+   * Writes a <code>long</code> element.
+   */
+  public static void setLong(Object array, int index, long value) throws HandlingException {
+    Class<?> type = componentType(array);
+    if (type == long.class) {
+      LONGS.set((long[]) array, index, value);
+    } else if (type == float.class) {
+      FLOATS.set((float[]) array, index, (float) value);
+    } else if (type == double.class) {
+      DOUBLES.set((double[]) array, index, (double) value);
+    } else {
+      throw unsupported(array, long.class);
+    }
+  }
+
+  /**
+   * Writes a <code>double</code> element.
+   */
+  public static void setDouble(Object array, int index, double value) throws HandlingException {
+    if (componentType(array) == double.class) {
+      DOUBLES.set((double[]) array, index, value);
+    } else {
+      throw unsupported(array, double.class);
+    }
+  }
+
+  /**
+   * Reads a range of elements as <code>int</code> values.
+   *
+   * @param array the array to read
+   * @param from  the initial index, inclusive
+   * @param to    the final index, exclusive
+   * @return a new array containing the values
+   */
+  public static int[] readInts(Object array, int from, int to) throws HandlingException {
+    if (array instanceof int[]) {
+      return Arrays.copyOfRange((int[]) array, from, to);
+    }
+    int[] result = new int[to - from];
+    for (int i = from; i < to; i++) {
+      result[i - from] = getInt(array, i);
+    }
+    return result;
+  }
+
+  /**
+   * Reads a range of elements as <code>long</code> values.
+   *
+   * @param array the array to read
+   * @param from  the initial index, inclusive
+   * @param to    the final index, exclusive
+   * @return a new array containing the values
+   */
+  public static long[] readLongs(Object array, int from, int to) throws HandlingException {
+    if (array instanceof long[]) {
+      return Arrays.copyOfRange((long[]) array, from, to);
+    }
+    long[] result = new long[to - from];
+    for (int i = from; i < to; i++) {
+      result[i - from] = getLong(array, i);
+    }
+    return result;
+  }
+
+  /**
+   * Reads a range of elements as <code>double</code> values.
+   *
+   * @param array the array to read
+   * @param from  the initial index, inclusive
+   * @param to    the final index, exclusive
+   * @return a new array containing the values
+   */
+  public static double[] readDoubles(Object array, int from, int to) throws HandlingException {
+    if (array instanceof double[]) {
+      return Arrays.copyOfRange((double[]) array, from, to);
+    }
+    double[] result = new double[to - from];
+    for (int i = from; i < to; i++) {
+      result[i - from] = getDouble(array, i);
+    }
+    return result;
+  }
+
+  /**
+   * Writes the given values in the array, starting at the given index.
+   */
+  public static void fill(Object array, int offset, int[] values) throws HandlingException {
+    if (array instanceof int[]) {
+      System.arraycopy(values, 0, array, offset, values.length);
+    } else {
+      for (int i = 0; i < values.length; i++) {
+        setInt(array, offset + i, values[i]);
+      }
+    }
+  }
+
+  /**
+   * Writes the given values in the array, starting at the given index.
+   */
+  public static void fill(Object array, int offset, long[] values) throws HandlingException {
+    if (array instanceof long[]) {
+      System.arraycopy(values, 0, array, offset, values.length);
+    } else {
+      for (int i = 0; i < values.length; i++) {
+        setLong(array, offset + i, values[i]);
+      }
+    }
+  }
+
+  /**
+   * Writes the given values in the array, starting at the given index.
+   */
+  public static void fill(Object array, int offset, double[] values) throws HandlingException {
+    if (array instanceof double[]) {
+      System.arraycopy(values, 0, array, offset, values.length);
+    } else {
+      for (int i = 0; i < values.length; i++) {
+        setDouble(array, offset + i, values[i]);
+      }
+    }
+  }
+
+  /**
+   * Copies a range of elements between arrays. Arrays of the same type are
+   * copied through {@link System#arraycopy(Object, int, Object, int, int)};
+   * otherwise the values are widened to <code>int</code>, <code>long</code>
+   * or <code>double</code> destinations.
+   *
+   * @param src     the source array
+   * @param srcPos  the initial index in the source array
+   * @param dest    the destination array
+   * @param destPos the initial index in the destination array
+   * @param length  the number of elements to copy
+   */
+  public static void copy(Object src, int srcPos, Object dest, int destPos, int length)
+      throws HandlingException {
+    Class<?> destType = componentType(dest);
+    if (componentType(src) == destType) {
+      System.arraycopy(src, srcPos, dest, destPos, length);
+    } else if (destType == int.class) {
+      for (int i = 0; i < length; i++) {
+        INTS.set((int[]) dest, destPos + i, getInt(src, srcPos + i));
+      }
+    } else if (destType == long.class) {
+      for (int i = 0; i < length; i++) {
+        LONGS.set((long[]) dest, destPos + i, getLong(src, srcPos + i));
+      }
+    } else if (destType == double.class) {
+      for (int i = 0; i < length; i++) {
+        DOUBLES.set((double[]) dest, destPos + i, getDouble(src, srcPos + i));
+      }
+    } else {
+      throw new HandlingException("Cannot copy " + src.getClass().getSimpleName()
+          + " to " + dest.getClass().getSimpleName());
+    }
+  }
+
+  private static Class<?> componentType(Object array) {
+    Class<?> type = array.getClass().getComponentType();
+    if (type == null) {
+      throw new HandlingException("Not an array: " + array.getClass());
+    }
+    return type;
+  }
+
+  private static HandlingException unsupported(Object array, Class<?> type) {
+    return new HandlingException("Cannot handle " + type + " values in a "
+        + array.getClass().getSimpleName());
+  }
+
+}
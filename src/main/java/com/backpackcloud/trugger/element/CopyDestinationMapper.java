@@ -19,6 +19,7 @@
 
 package com.backpackcloud.trugger.element;
 
+import java.util.Collection;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -61,4 +62,17 @@ public interface CopyDestinationMapper {
    */
   void to(Object dest);
 
+  /**
+   * Copy the elements to each one of the given objects.
+   * <p>
+   * The copy is done in parallel if the copier was configured with
+   * {@link ElementCopier#parallel()}.
+   *
+   * @param dests the objects to copy the elements.
+   * @since 7.1
+   */
+  default void toEach(Collection<?> dests) {
+    dests.forEach(this::to);
+  }
+
 }
@@ -20,6 +20,7 @@ package com.backpackcloud.trugger.element;
 
 import com.backpackcloud.trugger.HandlingException;
 import com.backpackcloud.trugger.ValueHandler;
+import com.backpackcloud.trugger.util.convert.Converters;
 
 import java.lang.reflect.AnnotatedElement;
 
@@ -115,4 +116,17 @@ public interface Element extends AnnotatedElement, ValueHandler {
     }
   }
 
+  /**
+   * Sets the value if this element is {@link #isSpecific() specific},
+   * converting it to the {@link #type() type} of this element.
+   *
+   * @throws NonSpecificElementException if the element is not specific
+   * @throws HandlingException           if the value cannot be converted
+   * @see Converters
+   * @since 7.1
+   */
+  default void setConvertedValue(Object value) throws HandlingException {
+    setValue(Converters.convert(value, type()));
+  }
+
 }
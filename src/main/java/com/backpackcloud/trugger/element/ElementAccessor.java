@@ -0,0 +1,98 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element;
+
+import com.backpackcloud.trugger.HandlingException;
+
+/**
+ * A reusable access point for the element with a given name, to be used when
+ * the same name is evaluated against a lot of objects (like in expression or
+ * rule evaluation).
+ * <p>
+ * The accessor keeps the compiled accessors of the last classes it handled
+ * and checks them before doing any lookup, so reading the element of a
+ * handful of receiver types doesn't query the element finders or create
+ * {@link Element} objects. Other classes are still resolved only once and
+ * kept in a class cache.
+ * <p>
+ * Instances are thread safe and should be reused.
+ *
+ * @since 7.1
+ * @see Elements#accessor(String)
+ */
+public interface ElementAccessor {
+
+  /**
+   * Returns the name of the element.
+   *
+   * @return the name of the element.
+   */
+  String name();
+
+  /**
+   * Reads the value of the element in the given target.
+   *
+   * @param target the target to read the element
+   * @return the value of the element or <code>null</code> if the target is
+   * <code>null</code>.
+   * @throws HandlingException if the element cannot be found or read
+   */
+  <E> E get(Object target) throws HandlingException;
+
+  /**
+   * Reads the value of the element in the given target as an int, without
+   * boxing it if the element is a primitive one.
+   *
+   * @param target the target to read the element
+   * @return the value of the element
+   * @throws HandlingException if the element cannot be found or read
+   */
+  int getInt(Object target) throws HandlingException;
+
+  /**
+   * Reads the value of the element in the given target as a long, without
+   * boxing it if the element is a primitive one.
+   *
+   * @param target the target to read the element
+   * @return the value of the element
+   * @throws HandlingException if the element cannot be found or read
+   */
+  long getLong(Object target) throws HandlingException;
+
+  /**
+   * Reads the value of the element in the given target as a double, without
+   * boxing it if the element is a primitive one.
+   *
+   * @param target the target to read the element
+   * @return the value of the element
+   * @throws HandlingException if the element cannot be found or read
+   */
+  double getDouble(Object target) throws HandlingException;
+
+  /**
+   * Writes the value of the element in the given target.
+   *
+   * @param target the target to write the element
+   * @param value  the value to set
+   * @throws HandlingException if the element cannot be found or written or
+   *                           if the target is <code>null</code>
+   */
+  void set(Object target, Object value) throws HandlingException;
+
+}
@@ -18,6 +18,14 @@
  */
 package com.backpackcloud.trugger.element;
 
+import com.backpackcloud.trugger.HandlingException;
+import com.backpackcloud.trugger.reflection.Reflection;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
 /**
  * Interface that defines a class that copies elements from a target to another.
  * <p>
@@ -40,4 +48,76 @@ public interface ElementCopier {
    */
   CopyDestinationMapper from(Object src);
 
+  /**
+   * Copies each one of the given objects to a new object created by the given
+   * factory.
+   *
+   * @param sources the objects to copy
+   * @param factory the factory for the destination objects
+   * @return the created objects, in the same order of the sources
+   * @since 7.1
+   */
+  default <T> List<T> mapAll(Collection<?> sources, Supplier<T> factory) {
+    List<T> result = new ArrayList<>(sources.size());
+    for (Object src : sources) {
+      T dest = factory.get();
+      from(src).to(dest);
+      result.add(dest);
+    }
+    return result;
+  }
+
+  /**
+   * Creates a new object of the same class of the given object (through its
+   * default constructor) and copies the elements to it.
+   *
+   * @param object the object to copy
+   * @return the copy
+   * @throws HandlingException if the class has no default constructor
+   * @since 7.1
+   */
+  default <T> T copyOf(T object) {
+    T copy = Reflection.reflect()
+        .constructor()
+        .withoutParameters()
+        .from(object.getClass())
+        .map(constructor -> (T) constructor.invoke())
+        .orElseThrow(() -> new HandlingException("No default constructor found in " + object.getClass()));
+    from(object).to(copy);
+    return copy;
+  }
+
+  /**
+   * Returns a copier that copies the object graph instead of sharing the
+   * values between the objects.
+   * <p>
+   * Shared references stay shared in the copy and cycles are preserved.
+   * Immutable values are shared, arrays, collections and maps are copied item
+   * by item and other objects are created through their default constructors.
+   * Dates, calendars, string builders and atomic holders are copied, but any
+   * other JDK value is shared, even if it is mutable. Static elements are not
+   * touched.
+   *
+   * @return a copier that does deep copies.
+   * @throws UnsupportedOperationException if deep copies are not supported
+   * @since 7.1
+   */
+  default ElementCopier deep() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Returns a copier that splits the bulk operations ({@link #mapAll(Collection, Supplier)}
+   * and {@link CopyDestinationMapper#toEach(Collection)}) across the common
+   * fork join pool. Any filter or function used must be thread safe.
+   * <p>
+   * The default implementation ignores the hint and returns this copier.
+   *
+   * @return a copier that runs the bulk operations in parallel.
+   * @since 7.1
+   */
+  default ElementCopier parallel() {
+    return this;
+  }
+
 }
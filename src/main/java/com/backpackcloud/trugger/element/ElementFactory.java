@@ -27,7 +27,9 @@ package com.backpackcloud.trugger.element;
 public interface ElementFactory {
 
   /**
-   * Registers the given finder to use with element finding operations
+   * Registers the given finder to use with element finding operations. The
+   * finders are tested in priority order, the last registered one being the
+   * first tested.
    *
    * @param finder the finder to register
    */
@@ -58,4 +60,15 @@ public interface ElementFactory {
    */
   ElementCopier createElementCopier(ElementsSelector selector);
 
+  /**
+   * Creates a new MapBinder.
+   *
+   * @throws UnsupportedOperationException if this factory doesn't support
+   *                                       binders
+   * @since 7.1
+   */
+  default MapBinder createMapBinder() {
+    throw new UnsupportedOperationException();
+  }
+
 }
@@ -18,8 +18,11 @@
  */
 package com.backpackcloud.trugger.element;
 
+import com.backpackcloud.trugger.element.impl.TruggerElementAccessor;
 import com.backpackcloud.trugger.element.impl.TruggerElementFactory;
 import com.backpackcloud.trugger.element.impl.TruggerElementSelection;
+import com.backpackcloud.trugger.element.impl.TruggerPropertyPath;
+import com.backpackcloud.trugger.element.impl.TruggerRowMapper;
 import com.backpackcloud.trugger.Selection;
 import com.backpackcloud.trugger.util.NullableArgFunction;
 
@@ -76,6 +79,35 @@ public final class Elements {
     return select().element();
   }
 
+  /**
+   * Compiles the given path of nested elements (like
+   * <code>"address.city.name"</code>) for repeated evaluation.
+   *
+   * @param path the path of the elements separated by a dot
+   * @return the compiled path
+   * @throws IllegalArgumentException if the path contains an empty name
+   * @since 7.1
+   */
+  public static PropertyPath path(String path) {
+    return new TruggerPropertyPath(path);
+  }
+
+  /**
+   * Creates a reusable accessor for the element with the given name. Use it
+   * instead of {@link #element(String)} when the same name is evaluated
+   * against a lot of objects.
+   *
+   * @param name the name of the element
+   * @return the accessor for the element
+   * @throws IllegalArgumentException if the name is empty or nested (use
+   *                                  {@link #path(String)} for nested
+   *                                  elements)
+   * @since 7.1
+   */
+  public static ElementAccessor accessor(String name) {
+    return new TruggerElementAccessor(name);
+  }
+
   /**
    * Copies elements through objects.
    */
@@ -90,6 +122,27 @@ public final class Elements {
     return factory.createElementCopier(selector);
   }
 
+  /**
+   * Returns a mapper of result set rows to objects of the given type (created
+   * through their default constructors).
+   *
+   * @param type the type of the objects
+   * @return the row mapper
+   * @since 7.1
+   */
+  public static <T> RowMapper<T> rowMapper(Class<T> type) {
+    return new TruggerRowMapper<>(type);
+  }
+
+  /**
+   * Returns a binder that converts objects to maps and back.
+   *
+   * @since 7.1
+   */
+  public static MapBinder binder() {
+    return factory.createMapBinder();
+  }
+
   /**
    * Returns a function that gets the value of a selected element.
    *
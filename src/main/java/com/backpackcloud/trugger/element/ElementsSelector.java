@@ -20,6 +20,7 @@ package com.backpackcloud.trugger.element;
 
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Interface that defines a selector for {@link Element} objects.
@@ -37,6 +38,22 @@ public interface ElementsSelector {
    */
   ElementsSelector filter(Predicate<? super Element> predicate);
 
+  /**
+   * Selects only the elements at the given positions (the indexes, for
+   * arrays and lists). The range is applied before any filter and is limited
+   * to the size of the target.
+   *
+   * @param from the initial position, inclusive
+   * @param to   the final position, exclusive
+   * @return a new selector with the given range
+   * @throws IllegalArgumentException if the range is invalid
+   * @throws UnsupportedOperationException if ranges are not supported
+   * @since 7.1
+   */
+  default ElementsSelector range(int from, int to) {
+    throw new UnsupportedOperationException();
+  }
+
   /**
    * Applies the selection using the given target
    *
@@ -45,4 +62,15 @@ public interface ElementsSelector {
    */
   List<Element> from(Object target);
 
+  /**
+   * Applies the selection using the given target as a stream.
+   *
+   * @param target the target to apply the selection
+   * @return a stream of the selected elements
+   * @since 7.1
+   */
+  default Stream<Element> stream(Object target) {
+    return from(target).stream();
+  }
+
 }
@@ -0,0 +1,83 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element;
+
+import com.backpackcloud.trugger.HandlingException;
+
+import java.util.Map;
+
+/**
+ * Interface that defines a binder between objects and maps of their
+ * elements.
+ * <p>
+ * Only the elements of plain objects (the ones not handled by a registered
+ * {@link ElementFinder}) are bound and static elements are ignored. The
+ * values are {@link com.backpackcloud.trugger.util.convert.Converters
+ * converted} to the element types when binding a map to an object.
+ *
+ * @since 7.1
+ * @see Elements#binder()
+ */
+public interface MapBinder {
+
+  /**
+   * Returns a binder that flattens the nested objects using the paths of
+   * their elements as keys (like <code>"address.city"</code>) and builds them
+   * back from these keys.
+   * <p>
+   * References to an object that is already being flattened are kept as
+   * values.
+   *
+   * @return a binder that flattens the nested objects.
+   */
+  MapBinder flatten();
+
+  /**
+   * Creates a map containing the values of the readable elements of the
+   * given object.
+   *
+   * @param object the object to read
+   * @return a new map
+   * @throws HandlingException if an element cannot be read
+   */
+  Map<String, Object> toMap(Object object) throws HandlingException;
+
+  /**
+   * Creates an object of the given type (through its default constructor) and
+   * binds the given map to it.
+   *
+   * @param map  the values to bind
+   * @param type the type of the object to create
+   * @return the created object
+   * @throws HandlingException if the object cannot be created or a value
+   *                           cannot be converted or set
+   */
+  <T> T fromMap(Map<String, ?> map, Class<T> type) throws HandlingException;
+
+  /**
+   * Binds the given map to the given object. The keys without a matching
+   * writable element are ignored.
+   *
+   * @param map    the values to bind
+   * @param target the object to receive the values
+   * @throws HandlingException if a value cannot be converted or set
+   */
+  void bind(Map<String, ?> map, Object target) throws HandlingException;
+
+}
@@ -0,0 +1,76 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element;
+
+import com.backpackcloud.trugger.HandlingException;
+
+import java.util.List;
+
+/**
+ * A compiled path of nested elements (like <code>"address.city.name"</code>).
+ * <p>
+ * The path is parsed once and each segment keeps the elements it resolves
+ * for every class it walks through, so evaluating the same path against a lot
+ * of objects does not query the element finders again or create intermediate
+ * {@link Element} objects.
+ * <p>
+ * Instances are thread safe and should be reused.
+ *
+ * @since 7.1
+ * @see Elements#path(String)
+ */
+public interface PropertyPath {
+
+  /**
+   * Returns the path used to create this object.
+   *
+   * @return the path used to create this object.
+   */
+  String path();
+
+  /**
+   * Returns the names of the elements in this path.
+   *
+   * @return an immutable list containing the names of the elements
+   */
+  List<String> names();
+
+  /**
+   * Reads the value at the end of this path.
+   * <p>
+   * If the target or any intermediate value is <code>null</code>, the result
+   * will be <code>null</code>.
+   *
+   * @param target the root object
+   * @return the value at the end of this path.
+   * @throws HandlingException if an element cannot be found or read
+   */
+  <E> E get(Object target) throws HandlingException;
+
+  /**
+   * Writes the value at the end of this path.
+   *
+   * @param target the root object
+   * @param value  the value to set
+   * @throws HandlingException if an element cannot be found or handled or if
+   *                           an intermediate value is <code>null</code>
+   */
+  void set(Object target, Object value) throws HandlingException;
+
+}
@@ -0,0 +1,60 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element;
+
+import com.backpackcloud.trugger.HandlingException;
+
+import java.sql.ResultSet;
+import java.util.stream.Stream;
+
+/**
+ * Interface that defines a mapper of {@link ResultSet} rows to objects.
+ * <p>
+ * The columns are bound to the writable elements of the target class once
+ * per result set, by label. A column matches an element if their names are
+ * equal ignoring the case and underscores (<code>FIRST_NAME</code> matches
+ * <code>firstName</code>). Columns without a matching element are ignored.
+ * <p>
+ * Instances are thread safe and should be reused.
+ *
+ * @since 7.1
+ * @see Elements#rowMapper(Class)
+ */
+public interface RowMapper<T> {
+
+  /**
+   * Maps the current row of the given result set.
+   *
+   * @param resultSet the result set positioned at the row to map
+   * @return a new object containing the values of the row
+   * @throws HandlingException if a value cannot be read or set
+   */
+  T map(ResultSet resultSet) throws HandlingException;
+
+  /**
+   * Returns a lazy stream of the remaining rows of the given result set. The
+   * result set is advanced as the stream is consumed and is not closed by the
+   * stream.
+   *
+   * @param resultSet the result set to read
+   * @return a stream of the mapped rows
+   */
+  Stream<T> stream(ResultSet resultSet);
+
+}
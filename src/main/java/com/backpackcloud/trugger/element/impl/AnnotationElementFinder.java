@@ -28,7 +28,6 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * A default class for finding properties in annotations.
@@ -49,8 +48,7 @@ public final class AnnotationElementFinder implements ElementFinder {
     protected void loadElements(Class type, Map<String, Element> map) {
       Reflection.reflect()
           .methods()
-          .from(type)
-          .stream()
+          .stream(type)
           .map(ReflectedMethod::unwrap)
           .map(AnnotationElement::new)
           .forEach(prop -> map.put(prop.name(), prop));
@@ -59,12 +57,11 @@ public final class AnnotationElementFinder implements ElementFinder {
 
   public List<Element> findAll(Object target) {
     Collection<Element> elements = cache.get(target);
+    List<Element> list = new ArrayList<>(elements);
     if (target instanceof Class<?>) {
-      return new ArrayList<>(elements);
+      return list;
     }
-    return elements.stream().map(
-        element -> new SpecificElement(element, target)
-    ).collect(Collectors.toList());
+    return new IndexedElements(list::size, index -> new SpecificElement(list.get(index), target));
   }
 
   @Override
@@ -19,13 +19,19 @@
 
 package com.backpackcloud.trugger.element.impl;
 
+import com.backpackcloud.trugger.element.ArrayElements;
 import com.backpackcloud.trugger.element.Element;
 import com.backpackcloud.trugger.HandlingException;
 import com.backpackcloud.trugger.ValueHandler;
 
 import java.lang.reflect.Array;
 
-/** @author Marcelo Guimaraes */
+/**
+ * An element of an array. The primitive accessors of its value handlers
+ * don't box the values of primitive arrays (see {@link ArrayElements}).
+ *
+ * @author Marcelo Guimaraes
+ */
 public class ArrayElement extends AbstractElement implements Element {
 
   private int index;
@@ -76,6 +82,7 @@ public class ArrayElement extends AbstractElement implements Element {
 
   @Override
   public ValueHandler on(final Object array) {
+    final boolean primitive = array.getClass().getComponentType().isPrimitive();
     return new ValueHandler() {
       @Override
       public <E> E getValue() throws HandlingException {
@@ -86,6 +93,48 @@ public class ArrayElement extends AbstractElement implements Element {
       public void setValue(Object value) throws HandlingException {
         Array.set(array, index, value);
       }
+
+      @Override
+      public int getInt() throws HandlingException {
+        return primitive ? ArrayElements.getInt(array, index) : ValueHandler.super.getInt();
+      }
+
+      @Override
+      public void setInt(int value) throws HandlingException {
+        if (primitive) {
+          ArrayElements.setInt(array, index, value);
+        } else {
+          ValueHandler.super.setInt(value);
+        }
+      }
+
+      @Override
+      public long getLong() throws HandlingException {
+        return primitive ? ArrayElements.getLong(array, index) : ValueHandler.super.getLong();
+      }
+
+      @Override
+      public void setLong(long value) throws HandlingException {
+        if (primitive) {
+          ArrayElements.setLong(array, index, value);
+        } else {
+          ValueHandler.super.setLong(value);
+        }
+      }
+
+      @Override
+      public double getDouble() throws HandlingException {
+        return primitive ? ArrayElements.getDouble(array, index) : ValueHandler.super.getDouble();
+      }
+
+      @Override
+      public void setDouble(double value) throws HandlingException {
+        if (primitive) {
+          ArrayElements.setDouble(array, index, value);
+        } else {
+          ValueHandler.super.setDouble(value);
+        }
+      }
     };
   }
 
@@ -23,7 +23,6 @@ import com.backpackcloud.trugger.element.Element;
 import com.backpackcloud.trugger.element.ElementFinder;
 
 import java.lang.reflect.Array;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -53,11 +52,7 @@ public class ArrayElementFinder implements ElementFinder {
   @Override
   public List<Element> findAll(Object array) {
     int size = Array.getLength(array);
-    Element[] result = new Element[size];
-    for (int i = 0; i < size; i++) {
-      result[i] = new ArrayElement(array, i);
-    }
-    return Arrays.asList(result);
+    return new IndexedElements(() -> size, index -> new ArrayElement(array, index));
   }
 
 }
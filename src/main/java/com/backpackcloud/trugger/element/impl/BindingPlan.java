@@ -0,0 +1,99 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element.impl;
+
+import com.backpackcloud.trugger.element.Element;
+import com.backpackcloud.trugger.element.Elements;
+import com.backpackcloud.trugger.util.cache.Caches;
+import com.backpackcloud.trugger.util.cache.ClassCache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The precomputed elements used to bind a plain object to a map.
+ * <p>
+ * Plans are cached per class and hold only the instance elements (excluding
+ * the ones declared by {@link Object}), with the readable ones sorted by
+ * name.
+ *
+ * @since 7.1
+ */
+final class BindingPlan {
+
+  private static final ClassCache<BindingPlan> plans = Caches.newElementCache(BindingPlan::new);
+
+  private final List<ObjectElement> readable;
+  private final Map<String, ObjectElement> elements;
+
+  private BindingPlan(Class<?> type) {
+    List<ObjectElement> readable = new ArrayList<>();
+    Map<String, ObjectElement> elements = new HashMap<>();
+    for (Element element : Elements.elements().from(type)) {
+      if (element instanceof ObjectElement
+          && element.declaringClass() != Object.class
+          && !((ObjectElement) element).isStatic()) {
+        ObjectElement objectElement = (ObjectElement) element;
+        elements.put(objectElement.name(), objectElement);
+        if (objectElement.isReadable()) {
+          readable.add(objectElement);
+        }
+      }
+    }
+    readable.sort(Comparator.comparing(Element::name));
+    this.readable = Collections.unmodifiableList(readable);
+    this.elements = Collections.unmodifiableMap(elements);
+  }
+
+  /**
+   * Returns the plan for the given type. The type must be handled by the
+   * {@link ObjectElementFinder}.
+   */
+  static BindingPlan of(Class<?> type) {
+    return plans.get(type);
+  }
+
+  /**
+   * Returns the readable elements, sorted by name.
+   */
+  List<ObjectElement> readable() {
+    return readable;
+  }
+
+  /**
+   * Returns every element of the plan.
+   */
+  Collection<ObjectElement> elements() {
+    return elements.values();
+  }
+
+  /**
+   * Returns the element with the given name or <code>null</code> if there is
+   * no such element.
+   */
+  ObjectElement element(String name) {
+    return elements.get(name);
+  }
+
+}
@@ -20,41 +20,36 @@ package com.backpackcloud.trugger.element.impl;
 
 import com.backpackcloud.trugger.element.Element;
 import com.backpackcloud.trugger.util.Utils;
+import com.backpackcloud.trugger.util.cache.Caches;
+import com.backpackcloud.trugger.util.cache.ClassCache;
 
-import java.lang.ref.SoftReference;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A class to cache elements.
+ * <p>
+ * The elements of each class are loaded only once, even under concurrent
+ * access, and published as immutable maps. Reading an already loaded class
+ * never blocks. The cache follows the policy configured in {@link Caches}.
  *
  * @author Marcelo Guimaraes
  * @since 4.0
  */
 abstract class ClassElementsCache {
 
-  private SoftReference<Map<Class, Map<String, Element>>> ref;
+  private final ClassCache<Map<String, Element>> cache = Caches.newElementCache(this::load);
 
-  ClassElementsCache() {
-    this.ref = new SoftReference<>(new ConcurrentHashMap<>(50));
+  private Map<String, Element> getMap(Object target) {
+    return cache.get(Utils.resolveType(target));
   }
 
-  private Map<String, Element> getMap(Object target) {
-    Class type = Utils.resolveType(target);
-    Map<Class, Map<String, Element>> map = ref.get();
-    if (map == null) {
-      map = new ConcurrentHashMap<>(50);
-      this.ref = new SoftReference<>(map);
-    }
-    Map<String, Element> elementMap = map.get(type);
-    if (elementMap == null) {
-      elementMap = new HashMap<>(20);
-      loadElements(type, elementMap);
-      map.put(type, elementMap);
-    }
-    return elementMap;
+  private Map<String, Element> load(Class type) {
+    Map<String, Element> elementMap = new HashMap<>(20);
+    loadElements(type, elementMap);
+    return Collections.unmodifiableMap(elementMap);
   }
 
   public Collection get(Object target) {
@@ -0,0 +1,183 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element.impl;
+
+import com.backpackcloud.trugger.element.Element;
+import com.backpackcloud.trugger.element.Elements;
+import com.backpackcloud.trugger.util.cache.Caches;
+import com.backpackcloud.trugger.util.cache.ClassCache;
+import com.backpackcloud.trugger.util.convert.Converters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * The precomputed pairs of elements used to copy a plain object to another.
+ * <p>
+ * Plans are cached per source and destination classes and hold only the
+ * readable source elements that have a writable counterpart in the
+ * destination, along with the {@link Converters converter} between their
+ * types.
+ * <p>
+ * Each plan is kept by the class whose class loader can see the other class,
+ * so a plan never keeps a class loader alive longer than the class that
+ * holds it. Plans between classes of unrelated class loaders are not cached.
+ *
+ * @since 7.1
+ */
+final class CopyPlan {
+
+  private static final ClassCache<Plans> plans = Caches.newElementCache(type -> new Plans());
+
+  private final List<Step> steps;
+  private final Map<String, ObjectElement> destinations;
+
+  private CopyPlan(Class<?> src, Class<?> dest) {
+    List<Step> steps = new ArrayList<>();
+    Map<String, ObjectElement> destinations = new HashMap<>();
+    for (Element element : Elements.elements().from(src)) {
+      if (!(element instanceof ObjectElement)) {
+        continue;
+      }
+      ObjectElement destElement = src.equals(dest) ?
+          (ObjectElement) element : findElement(element.name(), dest);
+      if (destElement != null && destElement.isWritable()) {
+        destinations.put(element.name(), destElement);
+        if (element.isReadable()) {
+          steps.add(new Step((ObjectElement) element, destElement));
+        }
+      }
+    }
+    this.steps = Collections.unmodifiableList(steps);
+    this.destinations = Collections.unmodifiableMap(destinations);
+  }
+
+  /**
+   * Returns the plan for copying objects of the given types. Both types must
+   * be handled by the {@link ObjectElementFinder}.
+   */
+  static CopyPlan of(Class<?> src, Class<?> dest) {
+    if (canSee(dest, src)) {
+      return plans.get(dest).from.computeIfAbsent(src, type -> new CopyPlan(type, dest));
+    }
+    if (canSee(src, dest)) {
+      return plans.get(src).to.computeIfAbsent(dest, type -> new CopyPlan(src, type));
+    }
+    return new CopyPlan(src, dest);
+  }
+
+  /**
+   * Checks if the class loader of the given class is the class loader of the
+   * other class or one of its descendants.
+   */
+  private static boolean canSee(Class<?> type, Class<?> other) {
+    ClassLoader otherLoader = other.getClassLoader();
+    if (otherLoader == null) {
+      return true;
+    }
+    for (ClassLoader loader = type.getClassLoader(); loader != null; loader = loader.getParent()) {
+      if (loader == otherLoader) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the pairs of elements to copy.
+   */
+  List<Step> steps() {
+    return steps;
+  }
+
+  /**
+   * Returns the writable element of the destination type that receives the
+   * source element with the given name or <code>null</code> if there is no
+   * such element.
+   */
+  ObjectElement destination(String name) {
+    return destinations.get(name);
+  }
+
+  private static ObjectElement findElement(String name, Class<?> type) {
+    return Elements.element(name)
+        .from(type)
+        .filter(ObjectElement.class::isInstance)
+        .map(ObjectElement.class::cast)
+        .orElse(null);
+  }
+
+  /**
+   * The plans kept by a class, copying from and to other classes.
+   */
+  private static final class Plans {
+
+    private final Map<Class<?>, CopyPlan> from = new ConcurrentHashMap<>();
+    private final Map<Class<?>, CopyPlan> to = new ConcurrentHashMap<>();
+
+  }
+
+  /**
+   * A pair of elements to copy.
+   */
+  static final class Step {
+
+    private final ObjectElement src;
+    private final ObjectElement dest;
+    private final Function<Object, Object> converter;
+
+    private Step(ObjectElement src, ObjectElement dest) {
+      this.src = src;
+      this.dest = dest;
+      this.converter = Converters.converter(src.type(), dest.type()).orElse(null);
+    }
+
+    ObjectElement src() {
+      return src;
+    }
+
+    ObjectElement dest() {
+      return dest;
+    }
+
+    /**
+     * Checks if every value of the source element can be assigned to the
+     * destination element without a check at runtime.
+     */
+    boolean isAssignable() {
+      return converter != null && Converters.isIdentity(converter);
+    }
+
+    /**
+     * Returns the converter from the source element type to the destination
+     * element type or <code>null</code> if the converter depends on the
+     * runtime type of the values.
+     */
+    Function<Object, Object> converter() {
+      return converter;
+    }
+
+  }
+
+}
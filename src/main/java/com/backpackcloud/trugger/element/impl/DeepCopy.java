@@ -0,0 +1,258 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element.impl;
+
+import com.backpackcloud.trugger.HandlingException;
+import com.backpackcloud.trugger.reflection.ConstructorInvoker;
+import com.backpackcloud.trugger.reflection.Reflection;
+import com.backpackcloud.trugger.util.cache.Caches;
+import com.backpackcloud.trugger.util.cache.ClassCache;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The state of a deep copy.
+ * <p>
+ * Every copied object is kept in an identity map, so shared references stay
+ * shared in the copy and cycles terminate. The values are copied following
+ * these rules:
+ * <ul>
+ * <li>immutable values (primitive wrappers, strings, enums, ...) are
+ * shared</li>
+ * <li>arrays, collections and maps are copied item by item</li>
+ * <li>dates, calendars, string builders and atomic holders are copied</li>
+ * <li>other JDK classes (even the mutable ones) and classes handled by a
+ * registered finder are shared</li>
+ * <li>any other object is created through its default constructor and has
+ * its elements copied through the {@link CopyPlan} of its class</li>
+ * </ul>
+ *
+ * @since 7.1
+ */
+final class DeepCopy {
+
+  private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(
+      String.class, Boolean.class, Character.class, Byte.class, Short.class,
+      Integer.class, Long.class, Float.class, Double.class, BigInteger.class,
+      BigDecimal.class, UUID.class, URI.class, Locale.class, Class.class
+  );
+
+  private static final ClassCache<Optional<ConstructorInvoker>> constructors =
+      Caches.newCache(DeepCopy::defaultConstructor);
+
+  private final TruggerElementFinder finder;
+  private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+  DeepCopy(TruggerElementFinder finder) {
+    this.finder = finder;
+  }
+
+  /**
+   * Registers an object that was already copied.
+   */
+  void register(Object src, Object copy) {
+    copies.put(src, copy);
+  }
+
+  /**
+   * Returns the copy of the given value.
+   */
+  Object copy(Object value) {
+    if (value == null) {
+      return null;
+    }
+    Class<?> type = value.getClass();
+    if (isShared(type)) {
+      return value;
+    }
+    Object copy = copies.get(value);
+    if (copy != null) {
+      return copy;
+    }
+    if (type.isArray()) {
+      return copyArray(value, type);
+    }
+    if (value instanceof Collection) {
+      return copyCollection((Collection<?>) value, type);
+    }
+    if (value instanceof Map) {
+      return copyMap((Map<?, ?>) value, type);
+    }
+    if (isJdkType(type)) {
+      return copyJdkValue(value);
+    }
+    if (!finder.usesDefaultFinder(type)) {
+      return value;
+    }
+    copy = newInstance(type);
+    copies.put(value, copy);
+    for (CopyPlan.Step step : CopyPlan.of(type, type).steps()) {
+      if (!step.src().isStatic()) {
+        step.dest().write(copy, copy(step.src().read(value)));
+      }
+    }
+    return copy;
+  }
+
+  private Object copyArray(Object value, Class<?> type) {
+    int length = Array.getLength(value);
+    Object copy = Array.newInstance(type.getComponentType(), length);
+    copies.put(value, copy);
+    if (type.getComponentType().isPrimitive()) {
+      System.arraycopy(value, 0, copy, 0, length);
+    } else {
+      Object[] src = (Object[]) value;
+      Object[] dest = (Object[]) copy;
+      for (int i = 0; i < length; i++) {
+        dest[i] = copy(src[i]);
+      }
+    }
+    return copy;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object copyCollection(Collection<?> value, Class<?> type) {
+    if (value instanceof EnumSet) {
+      Object copy = ((EnumSet<?>) value).clone();
+      copies.put(value, copy);
+      return copy;
+    }
+    Collection<Object> copy;
+    if (value instanceof SortedSet) {
+      copy = new TreeSet<>((Comparator<Object>) ((SortedSet<?>) value).comparator());
+    } else {
+      copy = (Collection<Object>) instantiate(type)
+          .orElseGet(() -> value instanceof Set ? new LinkedHashSet<>() : new ArrayList<>());
+    }
+    copies.put(value, copy);
+    for (Object item : value) {
+      copy.add(copy(item));
+    }
+    return copy;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Object copyMap(Map<?, ?> value, Class<?> type) {
+    Map<Object, Object> copy;
+    if (value instanceof EnumMap) {
+      // the keys are enums, so putting the copied values replaces every entry
+      copy = (Map<Object, Object>) ((EnumMap<?, ?>) value).clone();
+    } else if (value instanceof SortedMap) {
+      copy = new TreeMap<>((Comparator<Object>) ((SortedMap<?, ?>) value).comparator());
+    } else {
+      copy = (Map<Object, Object>) instantiate(type).orElseGet(LinkedHashMap::new);
+    }
+    copies.put(value, copy);
+    for (Map.Entry<?, ?> entry : value.entrySet()) {
+      copy.put(copy(entry.getKey()), copy(entry.getValue()));
+    }
+    return copy;
+  }
+
+  private Object copyJdkValue(Object value) {
+    Object copy;
+    if (value instanceof Date) {
+      copy = ((Date) value).clone();
+    } else if (value instanceof Calendar) {
+      copy = ((Calendar) value).clone();
+    } else if (value instanceof StringBuilder) {
+      copy = new StringBuilder((StringBuilder) value);
+    } else if (value instanceof StringBuffer) {
+      copy = new StringBuffer((StringBuffer) value);
+    } else if (value instanceof AtomicInteger) {
+      copy = new AtomicInteger(((AtomicInteger) value).get());
+    } else if (value instanceof AtomicLong) {
+      copy = new AtomicLong(((AtomicLong) value).get());
+    } else if (value instanceof AtomicBoolean) {
+      copy = new AtomicBoolean(((AtomicBoolean) value).get());
+    } else if (value instanceof AtomicReference) {
+      AtomicReference<Object> reference = new AtomicReference<>();
+      copies.put(value, reference);
+      reference.set(copy(((AtomicReference<?>) value).get()));
+      return reference;
+    } else {
+      return value;
+    }
+    copies.put(value, copy);
+    return copy;
+  }
+
+  private static boolean isShared(Class<?> type) {
+    return IMMUTABLE_TYPES.contains(type) || Enum.class.isAssignableFrom(type) || type.isSynthetic();
+  }
+
+  static boolean isJdkType(Class<?> type) {
+    ClassLoader classLoader = type.getClassLoader();
+    return classLoader == null || classLoader == ClassLoader.getPlatformClassLoader();
+  }
+
+  /**
+   * Creates a new instance of the given type through its default constructor.
+   *
+   * @throws HandlingException if the type has no usable default constructor
+   */
+  static Object newInstance(Class<?> type) {
+    return instantiate(type)
+        .orElseThrow(() -> new HandlingException("No default constructor found in " + type));
+  }
+
+  private static Optional<Object> instantiate(Class<?> type) {
+    return constructors.get(type).map(ConstructorInvoker::withoutArgs);
+  }
+
+  private static Optional<ConstructorInvoker> defaultConstructor(Class<?> type) {
+    try {
+      return Reflection.reflect()
+          .constructor()
+          .withoutParameters()
+          .from(type)
+          .map(constructor -> Reflection.invoke(constructor.unwrap()));
+    } catch (RuntimeException e) {
+      // not accessible (like the classes from the jdk internal packages)
+      return Optional.empty();
+    }
+  }
+
+}
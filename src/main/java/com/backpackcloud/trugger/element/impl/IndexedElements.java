@@ -0,0 +1,60 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element.impl;
+
+import com.backpackcloud.trugger.element.Element;
+
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+
+/**
+ * An unmodifiable list of elements that creates each element only when it is
+ * accessed. Used for indexed targets (like arrays and lists) and for binding
+ * the elements of a class to a target.
+ *
+ * @since 7.1
+ */
+final class IndexedElements extends AbstractList<Element> implements RandomAccess {
+
+  private final IntSupplier size;
+  private final IntFunction<Element> factory;
+
+  /**
+   * @param size    the function that returns the current size of the target
+   * @param factory the function that creates the element of an index
+   */
+  IndexedElements(IntSupplier size, IntFunction<Element> factory) {
+    this.size = size;
+    this.factory = factory;
+  }
+
+  @Override
+  public Element get(int index) {
+    return factory.apply(Objects.checkIndex(index, size()));
+  }
+
+  @Override
+  public int size() {
+    return size.getAsInt();
+  }
+
+}
@@ -22,7 +22,6 @@ package com.backpackcloud.trugger.element.impl;
 import com.backpackcloud.trugger.element.Element;
 import com.backpackcloud.trugger.element.ElementFinder;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -53,12 +52,7 @@ public class ListElementFinder implements ElementFinder {
   @Override
   public List<Element> findAll(Object target) {
     List list = (List) target;
-    int size = list.size();
-    Element[] result = new Element[size];
-    for (int i = 0; i < size; i++) {
-      result[i] = new ListElement(list, i);
-    }
-    return Arrays.asList(result);
+    return new IndexedElements(list::size, index -> new ListElement(list, index));
   }
 
 }
@@ -50,8 +50,9 @@ public class MapElement extends AbstractElement implements Element {
 
         @Override
         public <E> E getValue() throws HandlingException {
-          if (map.containsKey(name)) {
-            return (E) map.get(name);
+          Object value = map.get(name);
+          if (value != null || map.containsKey(name)) {
+            return (E) value;
           }
           throw new HandlingException("Key '" + name + "' not present in target.");
         }
@@ -50,6 +50,8 @@ import static com.backpackcloud.trugger.reflection.MethodPredicates.setterOf;
  * </ol>
  * <p>
  * For value manipulations (write and read), the methods are used all the time.
+ * The access is compiled on the first use (see {@link PropertyAccessors}) and
+ * reused by every handler created for this element.
  *
  * @author Marcelo Guimaraes
  */
@@ -60,6 +62,8 @@ public final class ObjectElement extends AbstractElement {
   private Method setter;
   private Class<?> type;
   private Class<?> declaringClass;
+  private volatile PropertyReader reader;
+  private volatile PropertyWriter writer;
 
   public ObjectElement(Field field) {
     super(field.getName());
@@ -73,6 +77,28 @@ public final class ObjectElement extends AbstractElement {
     searchForAnnotatedElement();
   }
 
+  /**
+   * Creates a new ObjectElement with the members already resolved.
+   *
+   * @param name           the property name
+   * @param declaringClass the class that declares the property
+   * @param field          the property field (may be <code>null</code>)
+   * @param getter         the property getter (may be <code>null</code>)
+   * @param setter         the property setter (may be <code>null</code>)
+   * @see ObjectIntrospector
+   * @since 7.1
+   */
+  ObjectElement(String name, Class<?> declaringClass, Field field, Method getter, Method setter) {
+    super(name);
+    this.declaringClass = declaringClass;
+    this.field = field;
+    this.getter = getter;
+    this.setter = setter;
+    this.type = getter != null ? getter.getReturnType() :
+        setter != null ? setter.getParameterTypes()[0] : field.getType();
+    searchForAnnotatedElement();
+  }
+
   /**
    * Creates a new ObjectElement based on the specified method. Only a getter
    * or a setter.
@@ -102,37 +128,139 @@ public final class ObjectElement extends AbstractElement {
     return new ValueHandler() {
 
       public <E> E getValue() throws HandlingException {
-        if (!isReadable()) {
-          throw new UnreadableElementException(name);
+        return (E) read(target);
+      }
+
+      public void setValue(Object value) throws HandlingException {
+        write(target, value);
+      }
+
+      @Override
+      public int getInt() throws HandlingException {
+        try {
+          return reader().readInt(target);
+        } catch (RuntimeException e) {
+          throw handlingException(e);
         }
+      }
+
+      @Override
+      public void setInt(int value) throws HandlingException {
         try {
-          if (getter != null) {
-            return Reflection.invoke(getter).on(target).withoutArgs();
-          } else {
-            return Reflection.handle(field).on(target).getValue();
-          }
-        } catch (ReflectionException e) {
-          throw new HandlingException(e.getCause());
+          writer().writeInt(target, value);
+        } catch (RuntimeException e) {
+          throw handlingException(e);
         }
       }
 
-      public void setValue(Object value) throws HandlingException {
-        if (!isWritable()) {
-          throw new UnwritableElementException(name);
+      @Override
+      public long getLong() throws HandlingException {
+        try {
+          return reader().readLong(target);
+        } catch (RuntimeException e) {
+          throw handlingException(e);
         }
+      }
+
+      @Override
+      public void setLong(long value) throws HandlingException {
         try {
-          if (setter != null) {
-            Reflection.invoke(setter).on(target).withArgs(value);
-          } else {
-            Reflection.handle(field).on(target).setValue(value);
-          }
-        } catch (ReflectionException e) {
-          throw new HandlingException(e.getCause());
+          writer().writeLong(target, value);
+        } catch (RuntimeException e) {
+          throw handlingException(e);
+        }
+      }
+
+      @Override
+      public double getDouble() throws HandlingException {
+        try {
+          return reader().readDouble(target);
+        } catch (RuntimeException e) {
+          throw handlingException(e);
+        }
+      }
+
+      @Override
+      public void setDouble(double value) throws HandlingException {
+        try {
+          writer().writeDouble(target, value);
+        } catch (RuntimeException e) {
+          throw handlingException(e);
         }
       }
     };
   }
 
+  /**
+   * Reads the value of this property from the given target without creating a
+   * handler.
+   *
+   * @since 7.1
+   */
+  Object read(Object target) throws HandlingException {
+    try {
+      return reader().read(target);
+    } catch (RuntimeException e) {
+      throw handlingException(e);
+    }
+  }
+
+  /**
+   * Writes the value of this property in the given target without creating a
+   * handler.
+   *
+   * @since 7.1
+   */
+  void write(Object target, Object value) throws HandlingException {
+    try {
+      writer().write(target, value);
+    } catch (RuntimeException e) {
+      throw handlingException(e);
+    }
+  }
+
+  /**
+   * Returns the compiled reader of this property, creating it on the first
+   * access.
+   */
+  PropertyReader reader() {
+    PropertyReader result = reader;
+    if (result == null) {
+      if (!isReadable()) {
+        throw new UnreadableElementException(name);
+      }
+      result = getter != null ? PropertyAccessors.reader(getter) : PropertyAccessors.reader(field);
+      reader = result;
+    }
+    return result;
+  }
+
+  /**
+   * Returns the compiled writer of this property, creating it on the first
+   * access.
+   */
+  PropertyWriter writer() {
+    PropertyWriter result = writer;
+    if (result == null) {
+      if (!isWritable()) {
+        throw new UnwritableElementException(name);
+      }
+      result = setter != null ? PropertyAccessors.writer(setter) : PropertyAccessors.writer(field);
+      writer = result;
+    }
+    return result;
+  }
+
+  static HandlingException handlingException(RuntimeException e) {
+    if (e instanceof HandlingException) {
+      return (HandlingException) e;
+    }
+    if (e instanceof ReflectionException) {
+      return new HandlingException(e.getCause());
+    }
+    return new HandlingException(e);
+  }
+
   public boolean isReadable() {
     return getter != null || field != null;
   }
@@ -142,6 +270,21 @@ public final class ObjectElement extends AbstractElement {
         (field != null && !Modifier.isFinal(field.getModifiers()));
   }
 
+  /**
+   * Checks if this property belongs to the class instead of its instances.
+   *
+   * @since 7.1
+   */
+  boolean isStatic() {
+    if (getter != null) {
+      return Modifier.isStatic(getter.getModifiers());
+    }
+    if (field != null) {
+      return Modifier.isStatic(field.getModifiers());
+    }
+    return Modifier.isStatic(setter.getModifiers());
+  }
+
   public Class<?> declaringClass() {
     return declaringClass;
   }
@@ -164,8 +307,7 @@ public final class ObjectElement extends AbstractElement {
         .methods()
         .deep()
         .filter(predicate)
-        .from(declaringClass)
-        .stream()
+        .stream(declaringClass)
         .findFirst()
         .map(ReflectedMethod::unwrap)
         .orElse(null);
@@ -18,9 +18,6 @@
  */
 package com.backpackcloud.trugger.element.impl;
 
-import com.backpackcloud.trugger.reflection.MethodPredicates;
-import com.backpackcloud.trugger.reflection.ReflectedField;
-import com.backpackcloud.trugger.reflection.ReflectedMethod;
 import com.backpackcloud.trugger.reflection.Reflection;
 import com.backpackcloud.trugger.element.Element;
 import com.backpackcloud.trugger.element.ElementFinder;
@@ -31,7 +28,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * A default class for finding properties in objects.
@@ -43,37 +39,7 @@ public final class ObjectElementFinder implements ElementFinder {
   private final ClassElementsCache cache = new ClassElementsCache() {
     @Override
     protected void loadElements(Class type, Map<String, Element> map) {
-      loadUsingFields(type, map);
-      loadUsingMethods(type, map);
-    }
-
-    private void loadUsingFields(Class type, Map<String, Element> map) {
-      Reflection.reflect()
-          .fields()
-          .from(type)
-          .stream()
-          .map(ReflectedField::unwrap)
-          .forEach(field -> {
-            if (!map.containsKey(field.getName())) {
-              ObjectElement prop = new ObjectElement(field);
-              map.put(prop.name(), prop);
-            }
-          });
-    }
-
-    private void loadUsingMethods(Class type, Map<String, Element> map) {
-      Reflection.reflect().methods()
-          .filter(MethodPredicates.getter().or(MethodPredicates.setter()))
-          .from(type)
-          .stream()
-          .map(ReflectedMethod::unwrap)
-          .forEach(method -> {
-            String name = Reflection.parsePropertyName(method);
-            if (!map.containsKey(name)) {
-              ObjectElement prop = new ObjectElement(method, name);
-              map.put(prop.name(), prop);
-            }
-          });
+      new ObjectIntrospector(type).introspect(map);
     }
   };
 
@@ -106,11 +72,10 @@ public final class ObjectElementFinder implements ElementFinder {
       }
     }
     Collection<Element> elements = map.values();
+    List<Element> list = new ArrayList<>(elements);
     if (target instanceof Class<?>) {
-      return new ArrayList<>(elements);
+      return list;
     }
-    return elements.stream().map(
-        element -> new SpecificElement(element, target)
-    ).collect(Collectors.toList());
+    return new IndexedElements(list::size, index -> new SpecificElement(list.get(index), target));
   }
 }
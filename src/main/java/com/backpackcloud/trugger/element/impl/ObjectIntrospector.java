@@ -0,0 +1,124 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element.impl;
+
+import com.backpackcloud.trugger.element.Element;
+import com.backpackcloud.trugger.reflection.MethodPredicates;
+import com.backpackcloud.trugger.reflection.ReflectedField;
+import com.backpackcloud.trugger.reflection.ReflectedMethod;
+import com.backpackcloud.trugger.reflection.Reflection;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Introspects a class to build its {@link ObjectElement elements} in a single
+ * pass.
+ * <p>
+ * The class hierarchy is walked only once to collect the getters and setters
+ * by property name, and then each field and accessor method declared by the
+ * class is paired with its counterparts through those maps.
+ *
+ * @since 7.1
+ */
+final class ObjectIntrospector {
+
+  private static final Predicate<Method> GETTER = MethodPredicates.getter();
+  private static final Predicate<Method> SETTER = MethodPredicates.setter();
+
+  private final Class<?> type;
+  private final Map<String, List<Method>> getters = new HashMap<>();
+  private final Map<String, List<Method>> setters = new HashMap<>();
+
+  ObjectIntrospector(Class<?> type) {
+    this.type = type;
+    for (Class c : Reflection.hierarchyOf(type)) {
+      for (ReflectedMethod reflectedMethod : Reflection.reflect().methods().from(c)) {
+        Method method = reflectedMethod.unwrap();
+        if (GETTER.test(method)) {
+          getters.computeIfAbsent(Reflection.parsePropertyName(method), name -> new ArrayList<>())
+              .add(method);
+        } else if (SETTER.test(method)) {
+          setters.computeIfAbsent(Reflection.parsePropertyName(method), name -> new ArrayList<>())
+              .add(method);
+        }
+      }
+    }
+  }
+
+  /**
+   * Puts the elements declared by the introspected class in the given map.
+   * <p>
+   * Fields take precedence over accessor methods, and the accessor methods are
+   * only used to create elements for the properties without a field.
+   *
+   * @param map the map to put the elements
+   */
+  void introspect(Map<String, Element> map) {
+    for (ReflectedField reflectedField : Reflection.reflect().fields().from(type)) {
+      Field field = reflectedField.unwrap();
+      String name = field.getName();
+      if (!map.containsKey(name)) {
+        map.put(name, new ObjectElement(name, type, field,
+            getter(name, field.getType()), setter(name, field.getType())));
+      }
+    }
+    for (ReflectedMethod reflectedMethod : Reflection.reflect().methods().from(type)) {
+      Method method = reflectedMethod.unwrap();
+      boolean isGetter = GETTER.test(method);
+      if (!isGetter && !SETTER.test(method)) {
+        continue;
+      }
+      String name = Reflection.parsePropertyName(method);
+      if (!map.containsKey(name)) {
+        if (isGetter) {
+          map.put(name, new ObjectElement(name, type, null,
+              method, setter(name, method.getReturnType())));
+        } else {
+          map.put(name, new ObjectElement(name, type, null,
+              getter(name, method.getParameterTypes()[0]), method));
+        }
+      }
+    }
+  }
+
+  private Method getter(String name, Class<?> returnType) {
+    for (Method method : getters.getOrDefault(name, List.of())) {
+      if (method.getReturnType().equals(returnType)) {
+        return method;
+      }
+    }
+    return null;
+  }
+
+  private Method setter(String name, Class<?> parameterType) {
+    for (Method method : setters.getOrDefault(name, List.of())) {
+      if (method.getParameterTypes()[0].equals(parameterType)) {
+        return method;
+      }
+    }
+    return null;
+  }
+
+}
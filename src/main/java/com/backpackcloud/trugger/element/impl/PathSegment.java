@@ -0,0 +1,213 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element.impl;
+
+import com.backpackcloud.trugger.HandlingException;
+import com.backpackcloud.trugger.element.Element;
+import com.backpackcloud.trugger.element.Elements;
+import com.backpackcloud.trugger.util.cache.Caches;
+import com.backpackcloud.trugger.util.cache.ClassCache;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A single segment of a {@link TruggerPropertyPath} (also used by
+ * {@link TruggerElementAccessor}).
+ * <p>
+ * The element resolved for each runtime class and name is cached (in a class
+ * cache shared by every segment), so plain objects are handled directly
+ * through their compiled accessors. The last few classes are also kept in a
+ * small inline cache that is checked by identity before the class cache,
+ * which makes the access to a handful of receiver types a class check plus
+ * an accessor call. The inline cache holds its classes and elements weakly,
+ * so it never keeps a class that was dropped from the class cache. Targets
+ * handled by other finders (maps, lists, result sets...) have their elements
+ * resolved on each access.
+ *
+ * @since 7.1
+ */
+final class PathSegment {
+
+  /**
+   * The number of classes kept in the inline cache. Other classes are
+   * resolved through the class cache.
+   */
+  private static final int INLINE_ENTRIES = 4;
+
+  // the resolved elements of each class, by name
+  private static final ClassCache<Map<String, Optional<ObjectElement>>> elements =
+      Caches.newElementCache(type -> new ConcurrentHashMap<>());
+
+  private final String name;
+  private volatile InlineCache inline = new InlineCache(-1, new InlineEntry[0]);
+
+  PathSegment(String name) {
+    this.name = name;
+  }
+
+  String name() {
+    return name;
+  }
+
+  /**
+   * Returns the cached element for the given type or <code>null</code> if the
+   * type is not handled by plain object elements.
+   */
+  ObjectElement elementFor(Class<?> type) {
+    int generation = Caches.generation();
+    InlineCache cache = inline;
+    boolean valid = cache.generation == generation;
+    if (valid) {
+      for (InlineEntry entry : cache.entries) {
+        if (entry.get() == type) {
+          if (entry.element == null) {
+            return null;
+          }
+          ObjectElement element = entry.element.get();
+          if (element != null) {
+            return element;
+          }
+          // the element was dropped from the class cache (by its policy)
+          valid = false;
+          break;
+        }
+      }
+    }
+    ObjectElement element = elements.get(type)
+        .computeIfAbsent(name, key -> resolve(type))
+        .orElse(null);
+    if (!valid) {
+      inline = new InlineCache(generation, new InlineEntry[]{new InlineEntry(type, element)});
+    } else if (cache.entries.length < INLINE_ENTRIES) {
+      // a concurrent update may be lost, which only costs another miss
+      inline = cache.with(new InlineEntry(type, element));
+    }
+    return element;
+  }
+
+  Object read(Object target) throws HandlingException {
+    ObjectElement element = elementFor(target.getClass());
+    if (element != null) {
+      return element.read(target);
+    }
+    return lookup(target).getValue();
+  }
+
+  int readInt(Object target) throws HandlingException {
+    ObjectElement element = elementFor(target.getClass());
+    if (element != null) {
+      try {
+        return element.reader().readInt(target);
+      } catch (RuntimeException e) {
+        throw ObjectElement.handlingException(e);
+      }
+    }
+    return lookup(target).getInt();
+  }
+
+  long readLong(Object target) throws HandlingException {
+    ObjectElement element = elementFor(target.getClass());
+    if (element != null) {
+      try {
+        return element.reader().readLong(target);
+      } catch (RuntimeException e) {
+        throw ObjectElement.handlingException(e);
+      }
+    }
+    return lookup(target).getLong();
+  }
+
+  double readDouble(Object target) throws HandlingException {
+    ObjectElement element = elementFor(target.getClass());
+    if (element != null) {
+      try {
+        return element.reader().readDouble(target);
+      } catch (RuntimeException e) {
+        throw ObjectElement.handlingException(e);
+      }
+    }
+    return lookup(target).getDouble();
+  }
+
+  void write(Object target, Object value) throws HandlingException {
+    ObjectElement element = elementFor(target.getClass());
+    if (element != null) {
+      element.write(target, value);
+    } else {
+      lookup(target).setValue(value);
+    }
+  }
+
+  private Element lookup(Object target) {
+    return Elements.element(name)
+        .from(target)
+        .orElseThrow(() -> new HandlingException(
+            "Element '" + name + "' not found in " + target.getClass()));
+  }
+
+  private Optional<ObjectElement> resolve(Class<?> type) {
+    return Elements.element(name)
+        .from(type)
+        .filter(ObjectElement.class::isInstance)
+        .map(ObjectElement.class::cast);
+  }
+
+  /**
+   * An immutable set of entries, valid while the generation of the caches
+   * doesn't change.
+   */
+  private static final class InlineCache {
+
+    private final int generation;
+    private final InlineEntry[] entries;
+
+    private InlineCache(int generation, InlineEntry[] entries) {
+      this.generation = generation;
+      this.entries = entries;
+    }
+
+    private InlineCache with(InlineEntry entry) {
+      InlineEntry[] newEntries = Arrays.copyOf(entries, entries.length + 1);
+      newEntries[entries.length] = entry;
+      return new InlineCache(generation, newEntries);
+    }
+
+  }
+
+  /**
+   * A class and its element, both weakly referenced. The class cache keeps
+   * the element (and so the entry) alive while the class is cached.
+   */
+  private static final class InlineEntry extends WeakReference<Class<?>> {
+
+    // null if the class is not handled by plain object elements
+    private final WeakReference<ObjectElement> element;
+
+    private InlineEntry(Class<?> type, ObjectElement element) {
+      super(type);
+      this.element = element == null ? null : new WeakReference<>(element);
+    }
+
+  }
+
+}
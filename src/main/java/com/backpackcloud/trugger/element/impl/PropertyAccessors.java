@@ -0,0 +1,483 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element.impl;
+
+import com.backpackcloud.trugger.HandlingException;
+import com.backpackcloud.trugger.reflection.Reflection;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Factory of compiled property accessors.
+ * <p>
+ * Getters and setters are bound to classes generated at runtime by the
+ * {@link LambdaMetafactory}, defined in the same package (and class loader) of
+ * the class that declares the method, so the accessor calls the method
+ * directly instead of going through reflection. Fields, and the methods of
+ * classes that don't allow it (like the ones from other class loaders), are
+ * accessed through method handles adapted once. If the class cannot be
+ * accessed at all, the reflective path is used.
+ *
+ * @since 7.1
+ */
+final class PropertyAccessors {
+
+  private static final MethodType READER = methodType(Object.class, Object.class);
+  private static final MethodType INT_READER = methodType(int.class, Object.class);
+  private static final MethodType LONG_READER = methodType(long.class, Object.class);
+  private static final MethodType DOUBLE_READER = methodType(double.class, Object.class);
+
+  private static final MethodType WRITER = methodType(void.class, Object.class, Object.class);
+  private static final MethodType INT_WRITER = methodType(void.class, Object.class, int.class);
+  private static final MethodType LONG_WRITER = methodType(void.class, Object.class, long.class);
+  private static final MethodType DOUBLE_WRITER = methodType(void.class, Object.class, double.class);
+
+  private PropertyAccessors() {
+
+  }
+
+  /**
+   * Creates a reader that invokes the given getter method.
+   */
+  static PropertyReader reader(Method getter) {
+    try {
+      MethodHandles.Lookup lookup = lookupFor(getter.getDeclaringClass());
+      MethodHandle handle = lookup.unreflect(getter);
+      try {
+        return compileReader(lookup, getter, handle);
+      } catch (Throwable e) {
+        // the lookup is not allowed to define the accessor class
+        return handleReader(handle, getter.getReturnType(), isStatic(getter));
+      }
+    } catch (IllegalAccessException | RuntimeException e) {
+      return target -> Reflection.invoke(getter).on(target).withoutArgs();
+    }
+  }
+
+  /**
+   * Creates a writer that invokes the given setter method.
+   */
+  static PropertyWriter writer(Method setter) {
+    try {
+      MethodHandles.Lookup lookup = lookupFor(setter.getDeclaringClass());
+      MethodHandle handle = lookup.unreflect(setter);
+      try {
+        return compileWriter(lookup, setter, handle);
+      } catch (Throwable e) {
+        // the lookup is not allowed to define the accessor class
+        return handleWriter(handle, setter.getParameterTypes()[0], isStatic(setter));
+      }
+    } catch (IllegalAccessException | RuntimeException e) {
+      return (target, value) -> Reflection.invoke(setter).on(target).withArgs(value);
+    }
+  }
+
+  /**
+   * Creates a reader that gets the value of the given field.
+   */
+  static PropertyReader reader(Field field) {
+    try {
+      MethodHandle getter = lookupFor(field.getDeclaringClass()).unreflectGetter(field);
+      return handleReader(getter, field.getType(), isStatic(field));
+    } catch (IllegalAccessException | RuntimeException e) {
+      return target -> Reflection.handle(field).on(target).getValue();
+    }
+  }
+
+  /**
+   * Creates a writer that sets the value of the given field.
+   */
+  static PropertyWriter writer(Field field) {
+    try {
+      MethodHandle setter = lookupFor(field.getDeclaringClass()).unreflectSetter(field);
+      return handleWriter(setter, field.getType(), isStatic(field));
+    } catch (IllegalAccessException | RuntimeException e) {
+      return (target, value) -> Reflection.handle(field).on(target).setValue(value);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static PropertyReader compileReader(MethodHandles.Lookup lookup, Method getter,
+                                              MethodHandle handle) throws Throwable {
+    Class<?> owner = getter.getDeclaringClass();
+    Class<?> type = getter.getReturnType();
+    if (type == int.class) {
+      ToIntFunction<Object> function = (ToIntFunction<Object>) spin(lookup, handle,
+          ToIntFunction.class, "applyAsInt", INT_READER, methodType(int.class, owner));
+      return new PropertyReader() {
+        @Override
+        public Object read(Object target) {
+          return function.applyAsInt(target);
+        }
+
+        @Override
+        public int readInt(Object target) {
+          return function.applyAsInt(target);
+        }
+
+        @Override
+        public long readLong(Object target) {
+          return function.applyAsInt(target);
+        }
+
+        @Override
+        public double readDouble(Object target) {
+          return function.applyAsInt(target);
+        }
+      };
+    } else if (type == long.class) {
+      ToLongFunction<Object> function = (ToLongFunction<Object>) spin(lookup, handle,
+          ToLongFunction.class, "applyAsLong", LONG_READER, methodType(long.class, owner));
+      return new PropertyReader() {
+        @Override
+        public Object read(Object target) {
+          return function.applyAsLong(target);
+        }
+
+        @Override
+        public long readLong(Object target) {
+          return function.applyAsLong(target);
+        }
+
+        @Override
+        public double readDouble(Object target) {
+          return function.applyAsLong(target);
+        }
+      };
+    } else if (type == double.class) {
+      ToDoubleFunction<Object> function = (ToDoubleFunction<Object>) spin(lookup, handle,
+          ToDoubleFunction.class, "applyAsDouble", DOUBLE_READER, methodType(double.class, owner));
+      return new PropertyReader() {
+        @Override
+        public Object read(Object target) {
+          return function.applyAsDouble(target);
+        }
+
+        @Override
+        public double readDouble(Object target) {
+          return function.applyAsDouble(target);
+        }
+      };
+    }
+    Function<Object, Object> function = (Function<Object, Object>) spin(lookup, handle,
+        Function.class, "apply", READER, methodType(Object.class, owner));
+    return function::apply;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static PropertyWriter compileWriter(MethodHandles.Lookup lookup, Method setter,
+                                              MethodHandle handle) throws Throwable {
+    Class<?> owner = setter.getDeclaringClass();
+    Class<?> type = setter.getParameterTypes()[0];
+    if (type == int.class) {
+      ObjIntConsumer<Object> consumer = (ObjIntConsumer<Object>) spin(lookup, handle,
+          ObjIntConsumer.class, "accept", INT_WRITER, methodType(void.class, owner, int.class));
+      return new PropertyWriter() {
+        @Override
+        public void write(Object target, Object value) {
+          consumer.accept(target, toInt(value));
+        }
+
+        @Override
+        public void writeInt(Object target, int value) {
+          consumer.accept(target, value);
+        }
+      };
+    } else if (type == long.class) {
+      ObjLongConsumer<Object> consumer = (ObjLongConsumer<Object>) spin(lookup, handle,
+          ObjLongConsumer.class, "accept", LONG_WRITER, methodType(void.class, owner, long.class));
+      return new PropertyWriter() {
+        @Override
+        public void write(Object target, Object value) {
+          consumer.accept(target, toLong(value));
+        }
+
+        @Override
+        public void writeLong(Object target, long value) {
+          consumer.accept(target, value);
+        }
+      };
+    } else if (type == double.class) {
+      ObjDoubleConsumer<Object> consumer = (ObjDoubleConsumer<Object>) spin(lookup, handle,
+          ObjDoubleConsumer.class, "accept", DOUBLE_WRITER, methodType(void.class, owner, double.class));
+      return new PropertyWriter() {
+        @Override
+        public void write(Object target, Object value) {
+          consumer.accept(target, toDouble(value));
+        }
+
+        @Override
+        public void writeDouble(Object target, double value) {
+          consumer.accept(target, value);
+        }
+      };
+    }
+    if (type.isPrimitive()) {
+      // the adapted handle unboxes and widens the value like a reflective call
+      return writer(handle.asType(WRITER));
+    }
+    Class<?> parameter = MethodType.methodType(type).wrap().returnType();
+    BiConsumer<Object, Object> consumer = (BiConsumer<Object, Object>) spin(lookup, handle,
+        BiConsumer.class, "accept", WRITER, methodType(void.class, owner, parameter));
+    return consumer::accept;
+  }
+
+  private static Object spin(MethodHandles.Lookup lookup, MethodHandle handle,
+                             Class<?> functionalInterface, String name,
+                             MethodType samType, MethodType instantiatedType) throws Throwable {
+    return LambdaMetafactory.metafactory(lookup, name, methodType(functionalInterface),
+        samType, handle, instantiatedType).getTarget().invoke();
+  }
+
+  private static PropertyReader handleReader(MethodHandle getter, Class<?> type, boolean isStatic) {
+    if (isStatic) {
+      getter = MethodHandles.dropArguments(getter, 0, Object.class);
+    }
+    MethodHandle handle = getter.asType(READER);
+    if (type == int.class) {
+      MethodHandle intHandle = getter.asType(INT_READER);
+      return new PropertyReader() {
+        @Override
+        public Object read(Object target) {
+          return readInt(target);
+        }
+
+        @Override
+        public int readInt(Object target) {
+          try {
+            return (int) intHandle.invokeExact(target);
+          } catch (Throwable e) {
+            throw propagate(e);
+          }
+        }
+
+        @Override
+        public long readLong(Object target) {
+          return readInt(target);
+        }
+
+        @Override
+        public double readDouble(Object target) {
+          return readInt(target);
+        }
+      };
+    } else if (type == long.class) {
+      MethodHandle longHandle = getter.asType(LONG_READER);
+      return new PropertyReader() {
+        @Override
+        public Object read(Object target) {
+          return readLong(target);
+        }
+
+        @Override
+        public long readLong(Object target) {
+          try {
+            return (long) longHandle.invokeExact(target);
+          } catch (Throwable e) {
+            throw propagate(e);
+          }
+        }
+
+        @Override
+        public double readDouble(Object target) {
+          return readLong(target);
+        }
+      };
+    } else if (type == double.class) {
+      MethodHandle doubleHandle = getter.asType(DOUBLE_READER);
+      return new PropertyReader() {
+        @Override
+        public Object read(Object target) {
+          return readDouble(target);
+        }
+
+        @Override
+        public double readDouble(Object target) {
+          try {
+            return (double) doubleHandle.invokeExact(target);
+          } catch (Throwable e) {
+            throw propagate(e);
+          }
+        }
+      };
+    }
+    return target -> {
+      try {
+        return (Object) handle.invokeExact(target);
+      } catch (Throwable e) {
+        throw propagate(e);
+      }
+    };
+  }
+
+  private static PropertyWriter handleWriter(MethodHandle setter, Class<?> type, boolean isStatic) {
+    if (isStatic) {
+      setter = MethodHandles.dropArguments(setter, 0, Object.class);
+    }
+    MethodHandle handle = setter.asType(WRITER);
+    if (type == int.class) {
+      MethodHandle intHandle = setter.asType(INT_WRITER);
+      return new PropertyWriter() {
+        @Override
+        public void write(Object target, Object value) {
+          writeInt(target, toInt(value));
+        }
+
+        @Override
+        public void writeInt(Object target, int value) {
+          try {
+            intHandle.invokeExact(target, value);
+          } catch (Throwable e) {
+            throw propagate(e);
+          }
+        }
+      };
+    } else if (type == long.class) {
+      MethodHandle longHandle = setter.asType(LONG_WRITER);
+      return new PropertyWriter() {
+        @Override
+        public void write(Object target, Object value) {
+          writeLong(target, toLong(value));
+        }
+
+        @Override
+        public void writeLong(Object target, long value) {
+          try {
+            longHandle.invokeExact(target, value);
+          } catch (Throwable e) {
+            throw propagate(e);
+          }
+        }
+      };
+    } else if (type == double.class) {
+      MethodHandle doubleHandle = setter.asType(DOUBLE_WRITER);
+      return new PropertyWriter() {
+        @Override
+        public void write(Object target, Object value) {
+          writeDouble(target, toDouble(value));
+        }
+
+        @Override
+        public void writeDouble(Object target, double value) {
+          try {
+            doubleHandle.invokeExact(target, value);
+          } catch (Throwable e) {
+            throw propagate(e);
+          }
+        }
+      };
+    }
+    return writer(handle);
+  }
+
+  private static PropertyWriter writer(MethodHandle handle) {
+    return (target, value) -> {
+      try {
+        handle.invokeExact(target, value);
+      } catch (Throwable e) {
+        throw propagate(e);
+      }
+    };
+  }
+
+  /**
+   * Unboxes the given value as an <code>int</code>, applying the widening
+   * conversions accepted by reflective calls.
+   */
+  static int toInt(Object value) {
+    if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      return ((Number) value).intValue();
+    }
+    if (value instanceof Character) {
+      return (Character) value;
+    }
+    throw mismatch(value, int.class);
+  }
+
+  /**
+   * Unboxes the given value as a <code>long</code>, applying the widening
+   * conversions accepted by reflective calls.
+   */
+  static long toLong(Object value) {
+    if (value instanceof Long || value instanceof Integer
+        || value instanceof Short || value instanceof Byte) {
+      return ((Number) value).longValue();
+    }
+    if (value instanceof Character) {
+      return (Character) value;
+    }
+    throw mismatch(value, long.class);
+  }
+
+  /**
+   * Unboxes the given value as a <code>double</code>, applying the widening
+   * conversions accepted by reflective calls.
+   */
+  static double toDouble(Object value) {
+    if (value instanceof Double || value instanceof Float || value instanceof Long
+        || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      return ((Number) value).doubleValue();
+    }
+    if (value instanceof Character) {
+      return (Character) value;
+    }
+    throw mismatch(value, double.class);
+  }
+
+  private static IllegalArgumentException mismatch(Object value, Class<?> type) {
+    String source = value == null ? "null" : value.getClass().getName();
+    return new IllegalArgumentException("Cannot convert " + source + " to " + type.getName());
+  }
+
+  private static boolean isStatic(Member member) {
+    return Modifier.isStatic(member.getModifiers());
+  }
+
+  private static MethodHandles.Lookup lookupFor(Class<?> type) throws IllegalAccessException {
+    return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+  }
+
+  private static RuntimeException propagate(Throwable e) {
+    if (e instanceof RuntimeException) {
+      return (RuntimeException) e;
+    }
+    if (e instanceof Error) {
+      throw (Error) e;
+    }
+    return new HandlingException(e);
+  }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element.impl;
+
+/**
+ * Interface that defines a compiled read access to an object property.
+ *
+ * @since 7.1
+ */
+@FunctionalInterface
+interface PropertyReader {
+
+  /**
+   * Reads the property value from the given target.
+   *
+   * @param target the target to read
+   * @return the property value
+   */
+  Object read(Object target);
+
+  /**
+   * Reads an <code>int</code> property value without boxing it if possible.
+   * Values of narrower primitive types are widened.
+   */
+  default int readInt(Object target) {
+    return PropertyAccessors.toInt(read(target));
+  }
+
+  /**
+   * Reads a <code>long</code> property value without boxing it if possible.
+   * Values of narrower primitive types are widened.
+   */
+  default long readLong(Object target) {
+    return PropertyAccessors.toLong(read(target));
+  }
+
+  /**
+   * Reads a <code>double</code> property value without boxing it if possible.
+   * Values of narrower primitive types are widened.
+   */
+  default double readDouble(Object target) {
+    return PropertyAccessors.toDouble(read(target));
+  }
+
+}
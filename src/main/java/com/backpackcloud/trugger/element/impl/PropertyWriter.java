@@ -0,0 +1,58 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element.impl;
+
+/**
+ * Interface that defines a compiled write access to an object property.
+ *
+ * @since 7.1
+ */
+@FunctionalInterface
+interface PropertyWriter {
+
+  /**
+   * Writes the property value in the given target.
+   *
+   * @param target the target to write
+   * @param value  the value to write
+   */
+  void write(Object target, Object value);
+
+  /**
+   * Writes an <code>int</code> property value without boxing it if possible.
+   */
+  default void writeInt(Object target, int value) {
+    write(target, value);
+  }
+
+  /**
+   * Writes a <code>long</code> property value without boxing it if possible.
+   */
+  default void writeLong(Object target, long value) {
+    write(target, value);
+  }
+
+  /**
+   * Writes a <code>double</code> property value without boxing it if possible.
+   */
+  default void writeDouble(Object target, double value) {
+    write(target, value);
+  }
+
+}
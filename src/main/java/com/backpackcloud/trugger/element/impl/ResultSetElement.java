@@ -34,8 +34,12 @@ public final class ResultSetElement extends AbstractElement implements Element {
 
   private static final Pattern DIGITS_PATTERN = Pattern.compile("\\d+");
 
+  /** the column index if the name is a number or 0 if it is a column label */
+  private final int index;
+
   public ResultSetElement(String name) {
     super(name);
+    this.index = name.length() < 10 && DIGITS_PATTERN.matcher(name).matches() ? Integer.parseInt(name) : 0;
   }
 
   @Override
@@ -57,8 +61,8 @@ public final class ResultSetElement extends AbstractElement implements Element {
         public <E> E getValue() throws HandlingException {
           try {
             //if the name is the column index
-            if (DIGITS_PATTERN.matcher(name).matches()) {
-              return (E) resultSet.getObject(Integer.parseInt(name));
+            if (index > 0) {
+              return (E) resultSet.getObject(index);
             }
             return (E) resultSet.getObject(name);
           } catch (SQLException e) {
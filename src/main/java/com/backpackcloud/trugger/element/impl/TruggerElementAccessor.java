@@ -0,0 +1,82 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element.impl;
+
+import com.backpackcloud.trugger.HandlingException;
+import com.backpackcloud.trugger.element.ElementAccessor;
+
+/**
+ * Default implementation of {@link ElementAccessor}.
+ *
+ * @since 7.1
+ */
+public final class TruggerElementAccessor implements ElementAccessor {
+
+  private final PathSegment segment;
+
+  public TruggerElementAccessor(String name) {
+    if (name.isEmpty() || name.indexOf('.') > -1) {
+      throw new IllegalArgumentException("Invalid element name: '" + name + "'");
+    }
+    this.segment = new PathSegment(name);
+  }
+
+  @Override
+  public String name() {
+    return segment.name();
+  }
+
+  @Override
+  public <E> E get(Object target) throws HandlingException {
+    return target == null ? null : (E) segment.read(target);
+  }
+
+  @Override
+  public int getInt(Object target) throws HandlingException {
+    return segment.readInt(nonNull(target));
+  }
+
+  @Override
+  public long getLong(Object target) throws HandlingException {
+    return segment.readLong(nonNull(target));
+  }
+
+  @Override
+  public double getDouble(Object target) throws HandlingException {
+    return segment.readDouble(nonNull(target));
+  }
+
+  @Override
+  public void set(Object target, Object value) throws HandlingException {
+    segment.write(nonNull(target), value);
+  }
+
+  private Object nonNull(Object target) {
+    if (target == null) {
+      throw new HandlingException("Cannot handle '" + segment.name() + "': target is null");
+    }
+    return target;
+  }
+
+  @Override
+  public String toString() {
+    return segment.name();
+  }
+
+}
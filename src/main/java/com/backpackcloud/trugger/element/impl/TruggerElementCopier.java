@@ -18,78 +18,257 @@
  */
 package com.backpackcloud.trugger.element.impl;
 
+import com.backpackcloud.trugger.HandlingException;
 import com.backpackcloud.trugger.element.CopyDestinationMapper;
 import com.backpackcloud.trugger.element.Element;
 import com.backpackcloud.trugger.element.ElementCopier;
 import com.backpackcloud.trugger.element.ElementCopy;
 import com.backpackcloud.trugger.element.Elements;
 import com.backpackcloud.trugger.element.ElementsSelector;
-import com.backpackcloud.trugger.util.Utils;
+import com.backpackcloud.trugger.util.convert.Converters;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * The default implementation for the property copy operation.
+ * <p>
+ * Copies between plain objects use a {@link CopyPlan} cached for the source
+ * and destination classes. Values are converted to the destination types
+ * through the {@link Converters}; values that cannot be converted (because
+ * there is no converter or because the conversion fails) are not copied.
  *
  * @author Marcelo Guimaraes
  */
 public final class TruggerElementCopier implements ElementCopier, CopyDestinationMapper {
 
+  // the result of a failed conversion
+  private static final Object SKIP = new Object();
+
+  private final TruggerElementFinder finder;
   private final ElementsSelector selector;
   private final Function<ElementCopy, Object> function;
   private final Predicate<ElementCopy> predicate;
+  private final boolean notNull;
+  private final boolean parallel;
+  private final boolean deep;
   private final Object src;
 
-  public TruggerElementCopier() {
-    this.selector = Elements.elements();
-    this.function = ElementCopy::value;
-    this.predicate = copy -> true;
-    this.src = null;
+  /**
+   * Creates a copier that copies every element.
+   *
+   * @param finder the finder used to select the elements
+   */
+  public TruggerElementCopier(TruggerElementFinder finder) {
+    this(finder, null);
   }
 
-  public TruggerElementCopier(ElementsSelector selector) {
-    this.selector = selector;
-    this.function = ElementCopy::value;
-    this.predicate = copy -> true;
-    this.src = null;
+  /**
+   * Creates a copier that copies the elements returned by the given selector.
+   *
+   * @param finder   the finder used to select the elements
+   * @param selector the selector to use (<code>null</code> to copy every
+   *                 element)
+   */
+  public TruggerElementCopier(TruggerElementFinder finder, ElementsSelector selector) {
+    this(finder, selector, null, null, false, false, false, null);
   }
 
-  private TruggerElementCopier(ElementsSelector selector,
+  private TruggerElementCopier(TruggerElementFinder finder,
+                               ElementsSelector selector,
                                Function<ElementCopy, Object> function,
                                Predicate<ElementCopy> predicate,
+                               boolean notNull,
+                               boolean parallel,
+                               boolean deep,
                                Object src) {
+    this.finder = finder;
     this.selector = selector;
     this.function = function;
     this.predicate = predicate;
+    this.notNull = notNull;
+    this.parallel = parallel;
+    this.deep = deep;
     this.src = src;
   }
 
   public CopyDestinationMapper notNull() {
-    return new TruggerElementCopier(selector, function, predicate.and(o -> o.src().getValue() != null), src);
+    return new TruggerElementCopier(finder, selector, function, predicate, true, parallel, deep, src);
   }
 
   public CopyDestinationMapper from(Object src) {
-    return new TruggerElementCopier(selector, function, predicate, src);
+    return new TruggerElementCopier(finder, selector, function, predicate, notNull, parallel, deep, src);
+  }
+
+  @Override
+  public ElementCopier parallel() {
+    return new TruggerElementCopier(finder, selector, function, predicate, notNull, true, deep, src);
+  }
+
+  @Override
+  public ElementCopier deep() {
+    return new TruggerElementCopier(finder, selector, function, predicate, notNull, parallel, true, src);
   }
 
   @Override
   public CopyDestinationMapper filter(Predicate<ElementCopy> predicate) {
-    return new TruggerElementCopier(this.selector, this.function, this.predicate.and(predicate), this.src);
+    return new TruggerElementCopier(finder, selector, function,
+        this.predicate == null ? predicate : this.predicate.and(predicate), notNull, parallel, deep, src);
   }
 
   @Override
   public CopyDestinationMapper map(Function function) {
-    return new TruggerElementCopier(selector, function, predicate, src);
+    return new TruggerElementCopier(finder, selector, function, predicate, notNull, parallel, deep, src);
   }
 
   public void to(Object object) {
-    startCopy(object);
+    route(src, object).copy(src, object);
   }
 
-  private void startCopy(Object dest) {
-    List<Element> elements = selector.from(src);
+  @Override
+  public <T> T copyOf(T object) {
+    Object copy = DeepCopy.newInstance(object.getClass());
+    route(object, copy).copy(object, copy);
+    return (T) copy;
+  }
+
+  @Override
+  public void toEach(Collection<?> dests) {
+    Batch batch = new Batch();
+    stream(dests).forEach(dest -> batch.copy(src, dest));
+  }
+
+  @Override
+  public <T> List<T> mapAll(Collection<?> sources, Supplier<T> factory) {
+    Batch batch = new Batch();
+    return stream(sources).map(source -> {
+      T dest = factory.get();
+      batch.copy(source, dest);
+      return dest;
+    }).collect(Collectors.toList());
+  }
+
+  private <E> Stream<E> stream(Collection<E> collection) {
+    return parallel ? collection.parallelStream() : collection.stream();
+  }
+
+  private Route route(Object src, Object dest) {
+    Class<?> srcType = src.getClass();
+    Class<?> destType = dest.getClass();
+    if (finder.usesDefaultFinder(srcType) && finder.usesDefaultFinder(destType)) {
+      return new Route(srcType, destType, CopyPlan.of(srcType, destType));
+    }
+    return new Route(srcType, destType, null);
+  }
+
+  /**
+   * The way of copying objects of a source type to a destination type.
+   */
+  private final class Route {
+
+    private final Class<?> srcType;
+    private final Class<?> destType;
+    private final CopyPlan plan;
+
+    private Route(Class<?> srcType, Class<?> destType, CopyPlan plan) {
+      this.srcType = srcType;
+      this.destType = destType;
+      this.plan = plan;
+    }
+
+    private boolean matches(Object src, Object dest) {
+      return src.getClass() == srcType && dest.getClass() == destType;
+    }
+
+    private void copy(Object src, Object dest) {
+      DeepCopy deepCopy = null;
+      if (deep) {
+        deepCopy = new DeepCopy(finder);
+        deepCopy.register(src, dest);
+      }
+      if (plan == null) {
+        startCopy(src, dest, deepCopy);
+      } else if (selector == null) {
+        copyPlanned(plan, src, dest, deepCopy);
+      } else {
+        copyPlanned(plan, selector.from(src), src, dest, deepCopy);
+      }
+    }
+
+  }
+
+  /**
+   * Reuses the last route while the types of the objects don't change.
+   */
+  private final class Batch {
+
+    private volatile Route route;
+
+    private void copy(Object src, Object dest) {
+      Route current = route;
+      if (current == null || !current.matches(src, dest)) {
+        current = route(src, dest);
+        route = current;
+      }
+      current.copy(src, dest);
+    }
+
+  }
+
+  private void copyPlanned(CopyPlan plan, Object src, Object dest, DeepCopy deepCopy) {
+    boolean sameClass = src.getClass().equals(dest.getClass());
+    for (CopyPlan.Step step : plan.steps()) {
+      if (deepCopy != null && step.dest().isStatic()) {
+        continue;
+      }
+      Object value = step.src().read(src);
+      if (notNull && value == null) {
+        continue;
+      }
+      if (predicate == null && function == null) {
+        if (value == null || step.isAssignable()) {
+          step.dest().write(dest, deepCopy == null ? value : deepCopy.copy(value));
+        } else {
+          Function<Object, Object> converter = step.converter() != null ? step.converter() :
+              Converters.converter(value.getClass(), step.dest().type()).orElse(null);
+          if (converter != null) {
+            value = convert(converter, value);
+            if (value != SKIP) {
+              step.dest().write(dest, deepCopy == null ? value : deepCopy.copy(value));
+            }
+          }
+        }
+      } else {
+        Element srcElement = new SpecificElement(step.src(), src);
+        Element destElement = sameClass ? srcElement : new SpecificElement(step.dest(), dest);
+        copy(destElement, srcElement, value, dest, deepCopy);
+      }
+    }
+  }
+
+  private void copyPlanned(CopyPlan plan, List<Element> elements, Object src, Object dest,
+                           DeepCopy deepCopy) {
+    boolean sameClass = src.getClass().equals(dest.getClass());
+    for (Element element : elements) {
+      ObjectElement destProperty = plan.destination(element.name());
+      if (destProperty != null && element.isReadable()
+          && (deepCopy == null || !destProperty.isStatic())) {
+        Object value = element.on(src).getValue();
+        if (notNull && value == null) {
+          continue;
+        }
+        copy(sameClass ? element : new SpecificElement(destProperty, dest), element, value, dest, deepCopy);
+      }
+    }
+  }
+
+  private void startCopy(Object src, Object dest, DeepCopy deepCopy) {
+    List<Element> elements = (selector == null ? Elements.elements() : selector).from(src);
     Element destProperty;
     for (Element element : elements) {
       String name = element.name();
@@ -99,19 +278,48 @@ public final class TruggerElementCopier implements ElementCopier, CopyDestinatio
         destProperty = Elements.element(name).from(dest).orElse(null);
       }
       if (destProperty != null && element.isReadable() && destProperty.isWritable()) {
-        copy(destProperty, element, dest);
+        Object value = element.on(src).getValue();
+        if (!notNull || value != null) {
+          copy(destProperty, element, value, dest, deepCopy);
+        }
       }
     }
   }
 
-  private void copy(Element destElement, Element srcElement, Object dest) {
-    Object value = srcElement.on(this.src).getValue();
-    PropertyCopyImpl copy = new PropertyCopyImpl(srcElement, destElement, value);
-    if (predicate.test(copy)) {
-      value = function.apply(copy);
-      if (value == null || Utils.areAssignable(destElement.type(), value.getClass())) {
-        destElement.on(dest).setValue(value);
+  private void copy(Element destElement, Element srcElement, Object value, Object dest,
+                    DeepCopy deepCopy) {
+    if (predicate != null || function != null) {
+      PropertyCopyImpl copy = new PropertyCopyImpl(srcElement, destElement, value);
+      if (predicate != null && !predicate.test(copy)) {
+        return;
       }
+      if (function != null) {
+        value = function.apply(copy);
+      }
+    }
+    if (value != null) {
+      Function<Object, Object> converter =
+          Converters.converter(value.getClass(), destElement.type()).orElse(null);
+      if (converter == null) {
+        return;
+      }
+      value = convert(converter, value);
+      if (value == SKIP) {
+        return;
+      }
+    }
+    destElement.on(dest).setValue(deepCopy == null ? value : deepCopy.copy(value));
+  }
+
+  /**
+   * Converts the given value or returns {@link #SKIP} if the conversion fails,
+   * so the element is skipped just like when there is no converter.
+   */
+  private static Object convert(Function<Object, Object> converter, Object value) {
+    try {
+      return converter.apply(value);
+    } catch (HandlingException e) {
+      return SKIP;
     }
   }
 
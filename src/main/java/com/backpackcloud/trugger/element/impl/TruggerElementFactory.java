@@ -23,9 +23,9 @@ import com.backpackcloud.trugger.element.ElementFactory;
 import com.backpackcloud.trugger.element.ElementFinder;
 import com.backpackcloud.trugger.element.ElementSelector;
 import com.backpackcloud.trugger.element.ElementsSelector;
+import com.backpackcloud.trugger.element.MapBinder;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Arrays;
 
 /**
  * A default implementation for ElementFactory.
@@ -34,24 +34,28 @@ import java.util.Set;
  */
 public final class TruggerElementFactory implements ElementFactory {
 
-  private ElementFinder finder;
-  private final Set<ElementFinder> registry;
+  private final TruggerElementFinder finder;
 
   public TruggerElementFactory() {
-    registry = new HashSet<>();
-    registry.add(new AnnotationElementFinder());
-    registry.add(new PropertiesElementFinder());
-    registry.add(new ResourceBundleElementFinder());
-    registry.add(new ResultSetElementFinder());
-    registry.add(new MapElementFinder());
-    registry.add(new ArrayElementFinder());
-    registry.add(new ListElementFinder());
-    finder = new TruggerElementFinder(new ObjectElementFinder(), registry);
+    // in priority order, the most specific finders come first
+    finder = new TruggerElementFinder(new ObjectElementFinder(), Arrays.asList(
+        new AnnotationElementFinder(),
+        new PropertiesElementFinder(),
+        new ResourceBundleElementFinder(),
+        new ResultSetElementFinder(),
+        new MapElementFinder(),
+        new ArrayElementFinder(),
+        new ListElementFinder()
+    ));
   }
 
+  /**
+   * Registers the given finder. The last registered finder has the highest
+   * priority, so it may also replace the built-in ones.
+   */
   @Override
   public void register(ElementFinder finder) {
-    this.registry.add(finder);
+    this.finder.register(finder);
   }
 
   /**
@@ -70,12 +74,17 @@ public final class TruggerElementFactory implements ElementFactory {
 
   @Override
   public ElementCopier createElementCopier() {
-    return new TruggerElementCopier();
+    return new TruggerElementCopier(finder);
   }
 
   @Override
   public ElementCopier createElementCopier(ElementsSelector selector) {
-    return new TruggerElementCopier(selector);
+    return new TruggerElementCopier(finder, selector);
+  }
+
+  @Override
+  public MapBinder createMapBinder() {
+    return new TruggerMapBinder(finder);
   }
 
 }
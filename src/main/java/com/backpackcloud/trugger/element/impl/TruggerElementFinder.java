@@ -21,25 +21,56 @@ package com.backpackcloud.trugger.element.impl;
 import com.backpackcloud.trugger.element.Element;
 import com.backpackcloud.trugger.element.ElementFinder;
 import com.backpackcloud.trugger.util.Utils;
+import com.backpackcloud.trugger.util.cache.Caches;
+import com.backpackcloud.trugger.util.cache.ClassCache;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 /**
  * A default implementation for an Element finder.
+ * <p>
+ * The registered finders are tested in priority order: the last registered
+ * finder comes first and the default finder is used only if no registered
+ * finder can find elements in the target type. The finder chosen for each
+ * class is cached, so a lookup doesn't depend on the number of registered
+ * finders.
  *
  * @author Marcelo Guimaraes
  */
 public final class TruggerElementFinder implements ElementFinder {
 
-  private final Set<ElementFinder> registry;
   private final ElementFinder defaultFinder;
+  private volatile Registry registry;
 
+  /**
+   * @param defaultFinder the finder to use if no registered finder can be used
+   * @param finders       the initial finders, in priority order
+   */
   TruggerElementFinder(ElementFinder defaultFinder,
-                              Set<ElementFinder> registry) {
-    this.registry = registry;
+                       List<ElementFinder> finders) {
     this.defaultFinder = defaultFinder;
+    this.registry = new Registry(finders.toArray(new ElementFinder[0]));
+  }
+
+  /**
+   * Registers the given finder with the highest priority.
+   * <p>
+   * The registry is replaced as a whole, so concurrent lookups use either
+   * the previous or the new finders, never a mix of them. The element caches
+   * are invalidated since the elements of a class may now come from the
+   * new finder. The reflection caches are kept.
+   *
+   * @param finder the finder to register
+   * @since 7.1
+   */
+  synchronized void register(ElementFinder finder) {
+    ElementFinder[] finders = registry.finders;
+    ElementFinder[] result = new ElementFinder[finders.length + 1];
+    result[0] = finder;
+    System.arraycopy(finders, 0, result, 1, finders.length);
+    registry = new Registry(result);
+    Caches.invalidateElementCaches();
   }
 
   @Override
@@ -52,22 +83,51 @@ public final class TruggerElementFinder implements ElementFinder {
     if (name.indexOf('.') > -1) {
       return Optional.ofNullable(NestedElement.createNestedElement(target, name));
     }
-    Class type = Utils.resolveType(target);
-    return registry.stream()
-        .filter(finder -> finder.canFind(type))
-        .findFirst()
-        .orElse(defaultFinder)
-        .find(name, target);
+    return finderFor(Utils.resolveType(target)).find(name, target);
+  }
+
+  /**
+   * Checks if the elements of the given type are handled by the default
+   * finder (no registered finder can find elements in it).
+   *
+   * @since 7.1
+   */
+  boolean usesDefaultFinder(Class type) {
+    return finderFor(type) == defaultFinder;
   }
 
   @Override
   public List<Element> findAll(Object target) {
-    Class type = Utils.resolveType(target);
-    return registry.stream()
-        .filter(finder -> finder.canFind(type))
-        .findFirst()
-        .orElse(defaultFinder)
-        .findAll(target);
+    return finderFor(Utils.resolveType(target)).findAll(target);
+  }
+
+  private ElementFinder finderFor(Class type) {
+    return registry.dispatch.get(type);
+  }
+
+  /**
+   * An immutable snapshot of the registered finders along with the finder
+   * resolved for each class.
+   */
+  private final class Registry {
+
+    private final ElementFinder[] finders;
+    private final ClassCache<ElementFinder> dispatch;
+
+    private Registry(ElementFinder[] finders) {
+      this.finders = finders;
+      this.dispatch = Caches.newElementCache(this::resolve);
+    }
+
+    private ElementFinder resolve(Class<?> type) {
+      for (ElementFinder finder : finders) {
+        if (finder.canFind(type)) {
+          return finder;
+        }
+      }
+      return defaultFinder;
+    }
+
   }
 
 }
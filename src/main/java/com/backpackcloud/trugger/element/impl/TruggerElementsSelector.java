@@ -25,6 +25,7 @@ import com.backpackcloud.trugger.element.ElementsSelector;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A default implementation for {@link ElementsSelector}.
@@ -35,29 +36,62 @@ public final class TruggerElementsSelector implements ElementsSelector {
 
   private final Predicate<? super Element> predicate;
   private final ElementFinder finder;
+  private final int fromIndex;
+  private final int toIndex;
 
   public TruggerElementsSelector(ElementFinder finder) {
-    this.finder = finder;
-    this.predicate = null;
+    this(finder, null);
   }
 
   public TruggerElementsSelector(ElementFinder finder,
                                  Predicate<? super Element> predicate) {
+    this(finder, predicate, 0, Integer.MAX_VALUE);
+  }
+
+  private TruggerElementsSelector(ElementFinder finder,
+                                  Predicate<? super Element> predicate,
+                                  int fromIndex, int toIndex) {
     this.predicate = predicate;
     this.finder = finder;
+    this.fromIndex = fromIndex;
+    this.toIndex = toIndex;
   }
 
   @Override
   public ElementsSelector filter(Predicate<? super Element> predicate) {
-    return new TruggerElementsSelector(finder, predicate);
+    return new TruggerElementsSelector(finder, predicate, fromIndex, toIndex);
+  }
+
+  @Override
+  public ElementsSelector range(int from, int to) {
+    if (from < 0 || to < from) {
+      throw new IllegalArgumentException("Invalid range: [" + from + ", " + to + ")");
+    }
+    return new TruggerElementsSelector(finder, predicate, from, to);
   }
 
   public List<Element> from(Object target) {
-    List<Element> elements = finder.findAll(target);
+    List<Element> elements = select(target);
     if (predicate != null) {
       return elements.stream().filter(predicate).collect(Collectors.toList());
     }
     return elements;
   }
 
+  @Override
+  public Stream<Element> stream(Object target) {
+    // the finders return every element at once, only the filter is lazy
+    Stream<Element> elements = select(target).stream();
+    return predicate == null ? elements : elements.filter(predicate);
+  }
+
+  private List<Element> select(Object target) {
+    List<Element> elements = finder.findAll(target);
+    if (fromIndex > 0 || toIndex < Integer.MAX_VALUE) {
+      int size = elements.size();
+      elements = elements.subList(Math.min(fromIndex, size), Math.min(toIndex, size));
+    }
+    return elements;
+  }
+
 }
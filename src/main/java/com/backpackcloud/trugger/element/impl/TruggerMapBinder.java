@@ -0,0 +1,152 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element.impl;
+
+import com.backpackcloud.trugger.HandlingException;
+import com.backpackcloud.trugger.element.MapBinder;
+import com.backpackcloud.trugger.util.convert.Converters;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The default implementation of {@link MapBinder}, based on cached
+ * {@link BindingPlan binding plans}.
+ *
+ * @since 7.1
+ */
+public final class TruggerMapBinder implements MapBinder {
+
+  private final TruggerElementFinder finder;
+  private final boolean flatten;
+
+  public TruggerMapBinder(TruggerElementFinder finder) {
+    this(finder, false);
+  }
+
+  private TruggerMapBinder(TruggerElementFinder finder, boolean flatten) {
+    this.finder = finder;
+    this.flatten = flatten;
+  }
+
+  @Override
+  public MapBinder flatten() {
+    return new TruggerMapBinder(finder, true);
+  }
+
+  @Override
+  public Map<String, Object> toMap(Object object) throws HandlingException {
+    List<ObjectElement> elements = BindingPlan.of(object.getClass()).readable();
+    Map<String, Object> map = new LinkedHashMap<>(capacity(elements.size()));
+    if (flatten) {
+      flatten(object, elements, "", map, Collections.newSetFromMap(new IdentityHashMap<>()));
+    } else {
+      for (ObjectElement element : elements) {
+        map.put(element.name(), element.read(object));
+      }
+    }
+    return map;
+  }
+
+  private void flatten(Object object, List<ObjectElement> elements, String prefix,
+                       Map<String, Object> map, Set<Object> path) {
+    path.add(object);
+    for (ObjectElement element : elements) {
+      Object value = element.read(object);
+      String key = prefix + element.name();
+      if (value != null && isNested(value.getClass()) && !path.contains(value)) {
+        flatten(value, BindingPlan.of(value.getClass()).readable(), key + ".", map, path);
+      } else {
+        map.put(key, value);
+      }
+    }
+    path.remove(object);
+  }
+
+  @Override
+  public <T> T fromMap(Map<String, ?> map, Class<T> type) throws HandlingException {
+    T object = (T) DeepCopy.newInstance(type);
+    bind(map, object);
+    return object;
+  }
+
+  @Override
+  public void bind(Map<String, ?> map, Object target) throws HandlingException {
+    BindingPlan plan = BindingPlan.of(target.getClass());
+    Map<String, Map<String, Object>> nested = null;
+    for (Map.Entry<String, ?> entry : map.entrySet()) {
+      String key = entry.getKey();
+      int dot = flatten ? key.indexOf('.') : -1;
+      if (dot < 0) {
+        ObjectElement element = plan.element(key);
+        if (element != null && element.isWritable()) {
+          set(element, target, entry.getValue());
+        }
+      } else {
+        if (nested == null) {
+          nested = new LinkedHashMap<>();
+        }
+        nested.computeIfAbsent(key.substring(0, dot), name -> new LinkedHashMap<>())
+            .put(key.substring(dot + 1), entry.getValue());
+      }
+    }
+    if (nested != null) {
+      for (Map.Entry<String, Map<String, Object>> entry : nested.entrySet()) {
+        ObjectElement element = plan.element(entry.getKey());
+        if (element != null) {
+          bindNested(element, target, entry.getValue());
+        }
+      }
+    }
+  }
+
+  private void set(ObjectElement element, Object target, Object value) {
+    if (value instanceof Map && isNested(element.type())) {
+      bindNested(element, target, (Map<String, ?>) value);
+    } else {
+      element.write(target, Converters.convert(value, element.type()));
+    }
+  }
+
+  private void bindNested(ObjectElement element, Object target, Map<String, ?> values) {
+    Object current = element.isReadable() ? element.read(target) : null;
+    if (current != null) {
+      bind(values, current);
+    } else if (element.isWritable()) {
+      element.write(target, fromMap(values, element.type()));
+    }
+  }
+
+  private boolean isNested(Class<?> type) {
+    return !type.isArray()
+        && !type.isPrimitive()
+        && !type.isEnum()
+        && !DeepCopy.isJdkType(type)
+        && finder.usesDefaultFinder(type);
+  }
+
+  private static int capacity(int size) {
+    return (int) (size / 0.75f) + 1;
+  }
+
+}
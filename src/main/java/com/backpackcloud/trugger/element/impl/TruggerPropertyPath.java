@@ -0,0 +1,100 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element.impl;
+
+import com.backpackcloud.trugger.HandlingException;
+import com.backpackcloud.trugger.element.PropertyPath;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Default implementation of {@link PropertyPath}.
+ *
+ * @since 7.1
+ */
+public final class TruggerPropertyPath implements PropertyPath {
+
+  private final String path;
+  private final List<String> names;
+  private final PathSegment[] segments;
+
+  public TruggerPropertyPath(String path) {
+    String[] parts = path.split("\\.", -1);
+    for (String part : parts) {
+      if (part.isEmpty()) {
+        throw new IllegalArgumentException("Invalid path: '" + path + "'");
+      }
+    }
+    this.path = path;
+    this.names = List.of(parts);
+    this.segments = Arrays.stream(parts)
+        .map(PathSegment::new)
+        .toArray(PathSegment[]::new);
+  }
+
+  @Override
+  public String path() {
+    return path;
+  }
+
+  @Override
+  public List<String> names() {
+    return names;
+  }
+
+  @Override
+  public <E> E get(Object target) throws HandlingException {
+    Object value = target;
+    for (PathSegment segment : segments) {
+      if (value == null) {
+        return null;
+      }
+      value = segment.read(value);
+    }
+    return (E) value;
+  }
+
+  @Override
+  public void set(Object target, Object value) throws HandlingException {
+    Object current = target;
+    int last = segments.length - 1;
+    for (int i = 0; i < last; i++) {
+      if (current == null) {
+        throw nullValue(i);
+      }
+      current = segments[i].read(current);
+    }
+    if (current == null) {
+      throw nullValue(last);
+    }
+    segments[last].write(current, value);
+  }
+
+  private HandlingException nullValue(int index) {
+    String reached = index == 0 ? "target" : String.join(".", names.subList(0, index));
+    return new HandlingException("Cannot set '" + path + "': " + reached + " is null");
+  }
+
+  @Override
+  public String toString() {
+    return path;
+  }
+
+}
@@ -0,0 +1,250 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element.impl;
+
+import com.backpackcloud.trugger.HandlingException;
+import com.backpackcloud.trugger.element.RowMapper;
+import com.backpackcloud.trugger.util.convert.Converters;
+
+import java.lang.ref.WeakReference;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The default implementation of {@link RowMapper}.
+ * <p>
+ * The columns of a result set are resolved once into a set of bindings. Each
+ * binding knows the column index, the compiled writer of the element and the
+ * typed getter to use, so primitive <code>int</code>, <code>long</code> and
+ * <code>double</code> values are never boxed.
+ *
+ * @since 7.1
+ */
+public final class TruggerRowMapper<T> implements RowMapper<T> {
+
+  private static final Set<Class<?>> JDBC_TIME_TYPES = Set.of(
+      LocalDate.class, LocalTime.class, LocalDateTime.class, OffsetDateTime.class
+  );
+
+  private final Class<T> type;
+  private final BindingPlan plan;
+  private final Map<String, ObjectElement> normalizedNames;
+  private volatile Columns last;
+
+  public TruggerRowMapper(Class<T> type) {
+    this.type = type;
+    this.plan = BindingPlan.of(type);
+    this.normalizedNames = new HashMap<>();
+    for (ObjectElement element : plan.elements()) {
+      if (element.isWritable()) {
+        normalizedNames.putIfAbsent(normalize(element.name()), element);
+      }
+    }
+  }
+
+  @Override
+  public T map(ResultSet resultSet) throws HandlingException {
+    Columns columns = last;
+    if (columns == null || columns.resultSet.get() != resultSet) {
+      columns = new Columns(resultSet, bind(resultSet));
+      last = columns;
+    }
+    return map(resultSet, columns.bindings);
+  }
+
+  @Override
+  public Stream<T> stream(ResultSet resultSet) {
+    Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<T>(
+        Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+
+      private Binding[] bindings;
+
+      @Override
+      public boolean tryAdvance(Consumer<? super T> action) {
+        try {
+          if (bindings == null) {
+            bindings = bind(resultSet);
+          }
+          if (!resultSet.next()) {
+            return false;
+          }
+        } catch (SQLException e) {
+          throw new HandlingException(e);
+        }
+        action.accept(map(resultSet, bindings));
+        return true;
+      }
+    };
+    return StreamSupport.stream(spliterator, false);
+  }
+
+  private T map(ResultSet resultSet, Binding[] bindings) {
+    T object = (T) DeepCopy.newInstance(type);
+    for (Binding binding : bindings) {
+      try {
+        binding.reader.read(resultSet, binding.index, binding.writer, object);
+      } catch (SQLException e) {
+        throw new HandlingException(e);
+      } catch (RuntimeException e) {
+        throw ObjectElement.handlingException(e);
+      }
+    }
+    return object;
+  }
+
+  private Binding[] bind(ResultSet resultSet) {
+    try {
+      ResultSetMetaData metaData = resultSet.getMetaData();
+      int count = metaData.getColumnCount();
+      List<Binding> bindings = new ArrayList<>(count);
+      for (int i = 1; i <= count; i++) {
+        String label = metaData.getColumnLabel(i);
+        ObjectElement element = plan.element(label);
+        if (element == null || !element.isWritable()) {
+          element = normalizedNames.get(normalize(label));
+        }
+        if (element != null) {
+          bindings.add(new Binding(i, element.writer(), readerFor(element.type())));
+        }
+      }
+      return bindings.toArray(new Binding[0]);
+    } catch (SQLException e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  private static String normalize(String name) {
+    return name.replace("_", "").toLowerCase(Locale.ROOT);
+  }
+
+  private static ColumnReader readerFor(Class<?> type) {
+    if (type == int.class) {
+      return (resultSet, index, writer, target) -> {
+        int value = resultSet.getInt(index);
+        if (!resultSet.wasNull()) {
+          writer.writeInt(target, value);
+        }
+      };
+    }
+    if (type == long.class) {
+      return (resultSet, index, writer, target) -> {
+        long value = resultSet.getLong(index);
+        if (!resultSet.wasNull()) {
+          writer.writeLong(target, value);
+        }
+      };
+    }
+    if (type == double.class) {
+      return (resultSet, index, writer, target) -> {
+        double value = resultSet.getDouble(index);
+        if (!resultSet.wasNull()) {
+          writer.writeDouble(target, value);
+        }
+      };
+    }
+    if (type == Integer.class) {
+      return (resultSet, index, writer, target) -> {
+        int value = resultSet.getInt(index);
+        writer.write(target, resultSet.wasNull() ? null : value);
+      };
+    }
+    if (type == Long.class) {
+      return (resultSet, index, writer, target) -> {
+        long value = resultSet.getLong(index);
+        writer.write(target, resultSet.wasNull() ? null : value);
+      };
+    }
+    if (type == Double.class) {
+      return (resultSet, index, writer, target) -> {
+        double value = resultSet.getDouble(index);
+        writer.write(target, resultSet.wasNull() ? null : value);
+      };
+    }
+    if (type == String.class) {
+      return (resultSet, index, writer, target) -> writer.write(target, resultSet.getString(index));
+    }
+    if (type == BigDecimal.class) {
+      return (resultSet, index, writer, target) -> writer.write(target, resultSet.getBigDecimal(index));
+    }
+    if (JDBC_TIME_TYPES.contains(type)) {
+      return (resultSet, index, writer, target) -> writer.write(target, resultSet.getObject(index, type));
+    }
+    if (type.isPrimitive()) {
+      return (resultSet, index, writer, target) -> {
+        Object value = resultSet.getObject(index);
+        if (value != null) {
+          writer.write(target, Converters.convert(value, type));
+        }
+      };
+    }
+    return (resultSet, index, writer, target) ->
+        writer.write(target, Converters.convert(resultSet.getObject(index), type));
+  }
+
+  @FunctionalInterface
+  private interface ColumnReader {
+
+    void read(ResultSet resultSet, int index, PropertyWriter writer, Object target) throws SQLException;
+
+  }
+
+  private static final class Binding {
+
+    private final int index;
+    private final PropertyWriter writer;
+    private final ColumnReader reader;
+
+    private Binding(int index, PropertyWriter writer, ColumnReader reader) {
+      this.index = index;
+      this.writer = writer;
+      this.reader = reader;
+    }
+
+  }
+
+  private static final class Columns {
+
+    private final WeakReference<ResultSet> resultSet;
+    private final Binding[] bindings;
+
+    private Columns(ResultSet resultSet, Binding[] bindings) {
+      this.resultSet = new WeakReference<>(resultSet);
+      this.bindings = bindings;
+    }
+
+  }
+
+}
@@ -63,7 +63,8 @@ public interface FieldPredicates {
    */
   static Predicate<Field> annotatedWith(
       Class<? extends Annotation> annotationType) {
-    return field -> field.isAnnotationPresent(annotationType);
+    return IndexedPredicate.of(IndexKey.annotatedWith(annotationType),
+        field -> field.isAnnotationPresent(annotationType));
   }
 
 }
@@ -21,6 +21,7 @@ package com.backpackcloud.trugger.reflection;
 import java.lang.reflect.Field;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Interface that defines a selector for {@link Field} objects.
@@ -55,4 +56,29 @@ public interface FieldsSelector {
    */
   List<ReflectedField> from(Object target);
 
+  /**
+   * Prepares this selection to be applied on many targets. The selected fields
+   * are computed only once for each class and only bound to each target, so
+   * the predicate must depend only on the tested member. Build the prepared
+   * selector once and reuse it; the default implementation returns this
+   * selector.
+   *
+   * @return a selector that reuses its results for targets of the same class
+   * @since 7.1
+   */
+  default FieldsSelector prepare() {
+    return this;
+  }
+
+  /**
+   * Applies the selection using the given target as a stream.
+   *
+   * @param target the target to apply the selection
+   * @return a stream of the selected fields
+   * @since 7.1
+   */
+  default Stream<ReflectedField> stream(Object target) {
+    return from(target).stream();
+  }
+
 }
@@ -0,0 +1,119 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.reflection;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
+/**
+ * Describes the members that an {@link IndexedPredicate} may accept, so a
+ * selector can look them up in an index instead of testing every member of a
+ * class.
+ * <p>
+ * A key narrows the members by their names, by their number of parameters or
+ * by an annotation present on them. It only tells which members are
+ * candidates: the predicate is still tested against each one of them.
+ *
+ * @since 7.1
+ */
+public final class IndexKey {
+
+  private final Set<String> names;
+  private final int arity;
+  private final Class<? extends Annotation> annotationType;
+
+  private IndexKey(Set<String> names, int arity, Class<? extends Annotation> annotationType) {
+    this.names = names;
+    this.arity = arity;
+    this.annotationType = annotationType;
+  }
+
+  /**
+   * @return a key for the members named with one of the given names.
+   */
+  public static IndexKey names(String... names) {
+    Set<String> set = new LinkedHashSet<>();
+    Collections.addAll(set, names);
+    return new IndexKey(Collections.unmodifiableSet(set), -1, null);
+  }
+
+  /**
+   * @return a key for the methods and constructors that take the given number
+   * of parameters.
+   */
+  public static IndexKey arity(int arity) {
+    return new IndexKey(null, arity, null);
+  }
+
+  /**
+   * @return a key for the members annotated with the given annotation.
+   */
+  public static IndexKey annotatedWith(Class<? extends Annotation> annotationType) {
+    return new IndexKey(null, -1, annotationType);
+  }
+
+  /**
+   * @return the names of the candidate members, if this key narrows them by
+   * name.
+   */
+  public Optional<Set<String>> names() {
+    return Optional.ofNullable(names);
+  }
+
+  /**
+   * @return the number of parameters of the candidate members, if this key
+   * narrows them by arity.
+   */
+  public OptionalInt arity() {
+    return arity < 0 ? OptionalInt.empty() : OptionalInt.of(arity);
+  }
+
+  /**
+   * @return the annotation present on the candidate members, if this key
+   * narrows them by annotation.
+   */
+  public Optional<Class<? extends Annotation>> annotationType() {
+    return Optional.ofNullable(annotationType);
+  }
+
+  /**
+   * Picks the most selective key between this and the given one. Names are
+   * preferred over annotations, and annotations over arity.
+   *
+   * @param other the other key
+   * @return the most selective key
+   */
+  public IndexKey and(IndexKey other) {
+    if (this.names != null) {
+      return this;
+    } else if (other.names != null) {
+      return other;
+    } else if (this.annotationType != null) {
+      return this;
+    } else if (other.annotationType != null) {
+      return other;
+    }
+    return this.arity >= 0 ? this : other;
+  }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.reflection;
+
+import java.util.function.Predicate;
+
+/**
+ * A predicate that tells which members it may accept through an
+ * {@link IndexKey}, allowing a selector to test only the indexed candidates
+ * instead of every member of a class.
+ * <p>
+ * The predicates created by {@link MethodPredicates}, {@link FieldPredicates}
+ * and {@link ReflectionPredicates} implement this interface when possible, and
+ * combining them through {@link #and(Predicate)} keeps the most selective key.
+ *
+ * @param <T> the type of the input to the predicate
+ * @since 7.1
+ */
+public interface IndexedPredicate<T> extends Predicate<T> {
+
+  /**
+   * @return the key that describes the members this predicate may accept.
+   */
+  IndexKey indexKey();
+
+  @Override
+  default IndexedPredicate<T> and(Predicate<? super T> other) {
+    IndexKey key = other instanceof IndexedPredicate ?
+        indexKey().and(((IndexedPredicate<?>) other).indexKey()) : indexKey();
+    return of(key, object -> test(object) && other.test(object));
+  }
+
+  /**
+   * Creates an indexed predicate.
+   *
+   * @param key       the key of the candidates
+   * @param predicate the predicate to test the candidates
+   * @return the created predicate
+   */
+  static <T> IndexedPredicate<T> of(IndexKey key, Predicate<T> predicate) {
+    return new IndexedPredicate<T>() {
+      @Override
+      public IndexKey indexKey() {
+        return key;
+      }
+
+      @Override
+      public boolean test(T object) {
+        return predicate.test(object);
+      }
+    };
+  }
+
+}
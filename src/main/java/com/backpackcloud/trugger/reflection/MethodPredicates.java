@@ -49,7 +49,7 @@ public interface MethodPredicates {
    * value.
    */
   static Predicate<Method> getter() {
-    return method -> {
+    return IndexedPredicate.of(IndexKey.arity(0), method -> {
       if (!Modifier.isPublic(method.getModifiers())) {
         return false;
       }
@@ -71,7 +71,7 @@ public interface MethodPredicates {
         return returnBoolean && IS_PATTERN.matcher(name).matches();
       }
       return true;
-    };
+    });
   }
 
   /**
@@ -82,7 +82,7 @@ public interface MethodPredicates {
    * value (a void method).
    */
   static Predicate<Method> setter() {
-    return method -> {
+    return IndexedPredicate.of(IndexKey.arity(1), method -> {
       if (!Modifier.isPublic(method.getModifiers())) {
         return false;
       }
@@ -93,7 +93,7 @@ public interface MethodPredicates {
         return false;
       }
       return SET_PATTERN.matcher(method.getName()).matches();
-    };
+    });
   }
 
   /**
@@ -101,8 +101,10 @@ public interface MethodPredicates {
    * method for the specified property name.
    */
   static Predicate<Method> getterOf(String propertyName) {
-    return getter().and(
-        method -> Reflection.parsePropertyName(method).equals(propertyName));
+    String capitalized = capitalize(propertyName);
+    return getter().and(IndexedPredicate.of(
+        IndexKey.names("get" + capitalized, "is" + capitalized, propertyName, capitalized),
+        method -> Reflection.parsePropertyName(method).equals(propertyName)));
   }
 
   /**
@@ -110,8 +112,16 @@ public interface MethodPredicates {
    * method for the specified property name.
    */
   static Predicate<Method> setterOf(String propertyName) {
-    return setter().and(
-        method -> Reflection.parsePropertyName(method).equals(propertyName));
+    return setter().and(IndexedPredicate.of(
+        IndexKey.names("set" + capitalize(propertyName)),
+        method -> Reflection.parsePropertyName(method).equals(propertyName)));
+  }
+
+  private static String capitalize(String propertyName) {
+    if (propertyName.isEmpty()) {
+      return propertyName;
+    }
+    return Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
   }
 
   static Predicate<Method> getterOf(Field field) {
@@ -131,7 +141,11 @@ public interface MethodPredicates {
    * @since 5.0
    */
   static Predicate<Method> withParameters(Class... parameterTypes) {
-    return method -> Arrays.equals(method.getParameterTypes(), parameterTypes);
+    if (parameterTypes == null) {
+      return method -> false;
+    }
+    return IndexedPredicate.of(IndexKey.arity(parameterTypes.length),
+        method -> Arrays.equals(method.getParameterTypes(), parameterTypes));
   }
 
   /**
@@ -142,7 +156,7 @@ public interface MethodPredicates {
    * @since 5.0
    */
   static Predicate<Method> withoutParameters() {
-    return method -> method.getParameterTypes().length == 0;
+    return IndexedPredicate.of(IndexKey.arity(0), method -> method.getParameterCount() == 0);
   }
 
   /**
@@ -167,7 +181,8 @@ public interface MethodPredicates {
    */
   static Predicate<Method> annotatedWith(
       final Class<? extends Annotation> annotationType) {
-    return method -> method.isAnnotationPresent(annotationType);
+    return IndexedPredicate.of(IndexKey.annotatedWith(annotationType),
+        method -> method.isAnnotationPresent(annotationType));
   }
 
 }
@@ -21,6 +21,7 @@ package com.backpackcloud.trugger.reflection;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Interface that defines a selector for {@link Method} objects.
@@ -55,4 +56,29 @@ public interface MethodsSelector {
    */
   List<ReflectedMethod> from(Object target);
 
+  /**
+   * Prepares this selection to be applied on many targets. The selected methods
+   * are computed only once for each class and only bound to each target, so
+   * the predicate must depend only on the tested member. Build the prepared
+   * selector once and reuse it; the default implementation returns this
+   * selector.
+   *
+   * @return a selector that reuses its results for targets of the same class
+   * @since 7.1
+   */
+  default MethodsSelector prepare() {
+    return this;
+  }
+
+  /**
+   * Applies the selection using the given target as a stream.
+   *
+   * @param target the target to apply the selection
+   * @return a stream of the selected methods
+   * @since 7.1
+   */
+  default Stream<ReflectedMethod> stream(Object target) {
+    return from(target).stream();
+  }
+
 }
@@ -18,8 +18,10 @@
  */
 package com.backpackcloud.trugger.reflection;
 
+import com.backpackcloud.trugger.reflection.impl.ClassMembers;
 import com.backpackcloud.trugger.reflection.impl.TruggerReflectionFactory;
 import com.backpackcloud.trugger.util.ClassIterator;
+import com.backpackcloud.trugger.util.Utils;
 
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
@@ -27,7 +29,6 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -143,14 +144,12 @@ public final class Reflection {
   }
 
   /**
-   * @return a list containing the hierarchy of the given target.
+   * @return an immutable list containing the hierarchy of the given target.
    * @see ClassIterator
    * @since 6.0
    */
   public static List<Class> hierarchyOf(Object target) {
-    List<Class> result = new ArrayList<>();
-    new ClassIterator(target).forEachRemaining(result::add);
-    return result;
+    return ClassMembers.of(Utils.resolveType(target)).hierarchy();
   }
 
   /**
@@ -36,7 +36,8 @@ public interface ReflectionPredicates {
    * annotated with the specified Annotation.
    */
   static <T extends AnnotatedElement> Predicate<T> annotatedWith(Class<? extends Annotation> annotationType) {
-    return element -> element.isAnnotationPresent(annotationType);
+    return IndexedPredicate.of(IndexKey.annotatedWith(annotationType),
+        element -> element.isAnnotationPresent(annotationType));
   }
 
   /**
@@ -51,7 +52,7 @@ public interface ReflectionPredicates {
    * name that with the given one.
    */
   static <T extends Member> Predicate<T> ofName(String name) {
-    return element -> element.getName().equals(name);
+    return IndexedPredicate.of(IndexKey.names(name), element -> element.getName().equals(name));
   }
 
   /**
@@ -126,8 +126,11 @@ public interface Reflector {
    * <i>For a set of the interfaces implemented only by the target in question, use the
    * {@link Class#getInterfaces()} method.</i>
    *
+   * The interfaces are listed in a deterministic order: by the class that
+   * implements them (starting on the target) and then by declaration order.
+   *
    * @param target the target to compute the interfaces
-   * @return the list containing all interfaces implemented by the given target.
+   * @return an immutable list containing all interfaces implemented by the given target.
    */
   List<Class> interfacesOf(Object target);
 
@@ -0,0 +1,456 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.reflection.impl;
+
+import com.backpackcloud.trugger.util.cache.Caches;
+import com.backpackcloud.trugger.util.cache.ClassCache;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Holds the members of a class.
+ * <p>
+ * The JDK copies the member arrays on each call to methods like
+ * {@link Class#getDeclaredMethods()}, so this class computes each array only
+ * once (on its first use) and shares it as an immutable list. Instances are
+ * kept in a class cache managed by {@link Caches}, which means they don't
+ * prevent a class loader from being unloaded and are discarded when the
+ * caches are invalidated.
+ * <p>
+ * Single members are resolved against the cached members, following the rules
+ * of the equivalent JDK methods, so a missing member doesn't cost an
+ * exception. Found members are remembered by their signatures. Misses are
+ * answered by the {@link MemberIndex indexes} (by name, or by the number of
+ * parameters for constructors), so only the members that share the name are
+ * checked against the parameter types. Their signatures are not remembered,
+ * since they may reference any class (even from other class loaders) and are
+ * not bounded by the members of the class. The members can also be queried
+ * through a {@link MemberIndex}.
+ *
+ * @since 7.1
+ */
+public final class ClassMembers {
+
+  private static final ClassCache<ClassMembers> MEMBERS = Caches.newCache(ClassMembers::new);
+
+  private final Class<?> type;
+
+  private volatile List<Class> hierarchy;
+  private volatile List<Class> interfaces;
+  private volatile List<Method> declaredMethods;
+  private volatile List<Method> methods;
+  private volatile List<Field> declaredFields;
+  private volatile List<Field> fields;
+  private volatile List<Constructor<?>> declaredConstructors;
+  private volatile List<Constructor<?>> constructors;
+
+  private final Map<Signature, Member> lookups = new ConcurrentHashMap<>();
+  private final Map<Kind, MemberIndex<?>> indexes = new ConcurrentHashMap<>();
+
+  private ClassMembers(Class<?> type) {
+    this.type = type;
+  }
+
+  /**
+   * Returns the members of the given class.
+   *
+   * @param type the class to get the members
+   * @return the members of the given class.
+   */
+  public static ClassMembers of(Class<?> type) {
+    return MEMBERS.get(type);
+  }
+
+  /**
+   * @return the class followed by all of its superclasses.
+   */
+  public List<Class> hierarchy() {
+    List<Class> result = hierarchy;
+    if (result == null) {
+      Class<?> superclass = type.getSuperclass();
+      if (superclass == null) {
+        result = List.of(type);
+      } else {
+        List<Class> superHierarchy = of(superclass).hierarchy();
+        Class[] classes = new Class[superHierarchy.size() + 1];
+        classes[0] = type;
+        for (int i = 0; i < superHierarchy.size(); i++) {
+          classes[i + 1] = superHierarchy.get(i);
+        }
+        result = List.of(classes);
+      }
+      hierarchy = result;
+    }
+    return result;
+  }
+
+  /**
+   * Returns every interface implemented by the class hierarchy, including the
+   * ones extended by other interfaces.
+   * <p>
+   * The interfaces are ordered by the class that implements them (starting on
+   * the class itself) and then by declaration order, each one followed by the
+   * interfaces it extends.
+   *
+   * @return the interfaces implemented by the class hierarchy.
+   */
+  public List<Class> interfaces() {
+    List<Class> result = interfaces;
+    if (result == null) {
+      Set<Class> set = new LinkedHashSet<>();
+      for (Class c : hierarchy()) {
+        if (Object.class.equals(c)) {
+          break;
+        }
+        for (Class interf : c.getInterfaces()) {
+          collectInterfaces(interf, set);
+        }
+      }
+      result = interfaces = List.copyOf(set);
+    }
+    return result;
+  }
+
+  private static void collectInterfaces(Class interf, Set<Class> interfaces) {
+    if (interfaces.add(interf)) {
+      for (Class extendedInterface : interf.getInterfaces()) {
+        collectInterfaces(extendedInterface, interfaces);
+      }
+    }
+  }
+
+  /**
+   * @return the methods declared by the class.
+   * @see Class#getDeclaredMethods()
+   */
+  public List<Method> declaredMethods() {
+    List<Method> result = declaredMethods;
+    if (result == null) {
+      result = declaredMethods = List.of(type.getDeclaredMethods());
+    }
+    return result;
+  }
+
+  /**
+   * @return the public methods of the class, including the inherited ones.
+   * @see Class#getMethods()
+   */
+  public List<Method> methods() {
+    List<Method> result = methods;
+    if (result == null) {
+      result = methods = List.of(type.getMethods());
+    }
+    return result;
+  }
+
+  /**
+   * @return the fields declared by the class.
+   * @see Class#getDeclaredFields()
+   */
+  public List<Field> declaredFields() {
+    List<Field> result = declaredFields;
+    if (result == null) {
+      result = declaredFields = List.of(type.getDeclaredFields());
+    }
+    return result;
+  }
+
+  /**
+   * @return the public fields of the class, including the inherited ones.
+   * @see Class#getFields()
+   */
+  public List<Field> fields() {
+    List<Field> result = fields;
+    if (result == null) {
+      result = fields = List.of(type.getFields());
+    }
+    return result;
+  }
+
+  /**
+   * @return the constructors declared by the class.
+   * @see Class#getDeclaredConstructors()
+   */
+  public List<Constructor<?>> declaredConstructors() {
+    List<Constructor<?>> result = declaredConstructors;
+    if (result == null) {
+      result = declaredConstructors = List.of(type.getDeclaredConstructors());
+    }
+    return result;
+  }
+
+  /**
+   * @return the public constructors of the class.
+   * @see Class#getConstructors()
+   */
+  public List<Constructor<?>> constructors() {
+    List<Constructor<?>> result = constructors;
+    if (result == null) {
+      result = constructors = List.of(type.getConstructors());
+    }
+    return result;
+  }
+
+  /**
+   * @return an index of the methods declared by the class.
+   */
+  public MemberIndex<Method> declaredMethodsIndex() {
+    return index(Kind.DECLARED_METHOD, this::declaredMethods);
+  }
+
+  /**
+   * @return an index of the public methods of the class.
+   */
+  public MemberIndex<Method> methodsIndex() {
+    return index(Kind.METHOD, this::methods);
+  }
+
+  /**
+   * @return an index of the fields declared by the class.
+   */
+  public MemberIndex<Field> declaredFieldsIndex() {
+    return index(Kind.DECLARED_FIELD, this::declaredFields);
+  }
+
+  /**
+   * @return an index of the public fields of the class.
+   */
+  public MemberIndex<Field> fieldsIndex() {
+    return index(Kind.FIELD, this::fields);
+  }
+
+  /**
+   * @return an index of the constructors declared by the class.
+   */
+  public MemberIndex<Constructor<?>> declaredConstructorsIndex() {
+    return index(Kind.DECLARED_CONSTRUCTOR, this::declaredConstructors);
+  }
+
+  /**
+   * @return an index of the public constructors of the class.
+   */
+  public MemberIndex<Constructor<?>> constructorsIndex() {
+    return index(Kind.CONSTRUCTOR, this::constructors);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T extends Member> MemberIndex<T> index(Kind kind, Supplier<List<T>> members) {
+    MemberIndex<?> index = indexes.get(kind);
+    if (index == null) {
+      index = indexes.computeIfAbsent(kind, k -> new MemberIndex<>(members.get()));
+    }
+    return (MemberIndex<T>) index;
+  }
+
+  /**
+   * Finds a method declared by the class.
+   *
+   * @param name           the method name
+   * @param parameterTypes the method parameter types
+   * @return the found method
+   * @see Class#getDeclaredMethod(String, Class[])
+   */
+  public Optional<Method> declaredMethod(String name, Class<?>... parameterTypes) {
+    List<Method> candidates = declaredMethodsIndex().named(name);
+    if (candidates.isEmpty()) {
+      return Optional.empty();
+    }
+    return lookup(Kind.DECLARED_METHOD, name, parameterTypes,
+        signature -> mostSpecific(candidates, signature));
+  }
+
+  /**
+   * Finds a public method of the class, including the inherited ones.
+   *
+   * @param name           the method name
+   * @param parameterTypes the method parameter types
+   * @return the found method
+   * @see Class#getMethod(String, Class[])
+   */
+  public Optional<Method> method(String name, Class<?>... parameterTypes) {
+    List<Method> candidates = methodsIndex().named(name);
+    if (candidates.isEmpty()) {
+      return Optional.empty();
+    }
+    return lookup(Kind.METHOD, name, parameterTypes,
+        signature -> mostSpecific(candidates, signature));
+  }
+
+  /**
+   * Finds a field declared by the class.
+   *
+   * @param name the field name
+   * @return the found field
+   * @see Class#getDeclaredField(String)
+   */
+  public Optional<Field> declaredField(String name) {
+    // field names are unique in a class
+    return declaredFieldsIndex().named(name).stream().findFirst();
+  }
+
+  /**
+   * Finds a public field of the class, including the inherited ones.
+   *
+   * @param name the field name
+   * @return the found field
+   * @see Class#getField(String)
+   */
+  public Optional<Field> field(String name) {
+    if (fieldsIndex().named(name).isEmpty()) {
+      return Optional.empty();
+    }
+    // follows the JDK search order, since an interface and a superclass may
+    // declare fields with the same name
+    return lookup(Kind.FIELD, name, null, signature -> {
+      Optional<Field> field = declaredField(name)
+          .filter(f -> Modifier.isPublic(f.getModifiers()));
+      if (field.isPresent()) {
+        return field;
+      }
+      for (Class<?> interfaceClass : type.getInterfaces()) {
+        field = of(interfaceClass).field(name);
+        if (field.isPresent()) {
+          return field;
+        }
+      }
+      Class<?> superclass = type.getSuperclass();
+      return superclass != null ? of(superclass).field(name) : Optional.empty();
+    });
+  }
+
+  /**
+   * Finds a constructor declared by the class.
+   *
+   * @param parameterTypes the constructor parameter types
+   * @return the found constructor
+   * @see Class#getDeclaredConstructor(Class[])
+   */
+  public Optional<Constructor<?>> declaredConstructor(Class<?>... parameterTypes) {
+    return lookup(Kind.DECLARED_CONSTRUCTOR, null, parameterTypes,
+        signature -> matching(declaredConstructors(), signature));
+  }
+
+  /**
+   * Finds a public constructor of the class.
+   *
+   * @param parameterTypes the constructor parameter types
+   * @return the found constructor
+   * @see Class#getConstructor(Class[])
+   */
+  public Optional<Constructor<?>> constructor(Class<?>... parameterTypes) {
+    return lookup(Kind.CONSTRUCTOR, null, parameterTypes,
+        signature -> matching(constructors(), signature));
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T extends Member> Optional<T> lookup(Kind kind, String name, Class<?>[] parameterTypes,
+                                                Function<Signature, Optional<T>> function) {
+    Signature signature = new Signature(kind, name, parameterTypes);
+    Member member = lookups.get(signature);
+    if (member != null) {
+      return Optional.of((T) member);
+    }
+    Optional<T> result = function.apply(signature);
+    result.ifPresent(found -> lookups.putIfAbsent(signature, found));
+    return result;
+  }
+
+  private static Optional<Method> mostSpecific(List<Method> methods, Signature signature) {
+    Method result = null;
+    for (Method method : methods) {
+      if (matches(method, signature)
+          && (result == null || result.getReturnType().isAssignableFrom(method.getReturnType()))) {
+        result = method;
+      }
+    }
+    return Optional.ofNullable(result);
+  }
+
+  private static Optional<Constructor<?>> matching(List<Constructor<?>> constructors, Signature signature) {
+    for (Constructor<?> constructor : constructors) {
+      if (matches(constructor, signature)) {
+        return Optional.of(constructor);
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static boolean matches(Executable executable, Signature signature) {
+    // the parameter count is checked first since getParameterTypes() copies the array
+    return executable.getParameterCount() == signature.parameterTypes.length
+        && Arrays.equals(executable.getParameterTypes(), signature.parameterTypes);
+  }
+
+  private enum Kind {
+    DECLARED_METHOD, METHOD, DECLARED_FIELD, FIELD, DECLARED_CONSTRUCTOR, CONSTRUCTOR
+  }
+
+  private static final class Signature {
+
+    private static final Class<?>[] NO_PARAMETERS = new Class<?>[0];
+
+    private final Kind kind;
+    private final String name;
+    private final Class<?>[] parameterTypes;
+    private final int hash;
+
+    private Signature(Kind kind, String name, Class<?>[] parameterTypes) {
+      this.kind = kind;
+      this.name = name;
+      this.parameterTypes = parameterTypes != null ? parameterTypes.clone() : NO_PARAMETERS;
+      this.hash = Objects.hash(kind, name) * 31 + Arrays.hashCode(this.parameterTypes);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Signature)) {
+        return false;
+      }
+      Signature other = (Signature) o;
+      return kind == other.kind
+          && Objects.equals(name, other.name)
+          && Arrays.equals(parameterTypes, other.parameterTypes);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+  }
+
+}
@@ -32,8 +32,8 @@ public class ConstructorFinder implements MemberFinder<Constructor<?>> {
   }
   
   @Override
-  public Constructor find(Class<?> type) throws Exception {
-    return type.getConstructor(parameterTypes);
+  public Constructor<?> find(Class<?> type) {
+    return ClassMembers.of(type).constructor(parameterTypes).orElse(null);
   }
   
 }
@@ -18,8 +18,9 @@
  */
 package com.backpackcloud.trugger.reflection.impl;
 
+import com.backpackcloud.trugger.reflection.IndexKey;
+
 import java.lang.reflect.Constructor;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -28,7 +29,12 @@ import java.util.List;
 public class ConstructorsFinder implements MembersFinder<Constructor<?>> {
   
   public List<Constructor<?>> find(Class<?> type) {
-    return Arrays.asList(type.getConstructors());
+    return ClassMembers.of(type).constructors();
+  }
+
+  @Override
+  public List<Constructor<?>> find(Class<?> type, IndexKey key) {
+    return ClassMembers.of(type).constructorsIndex().select(key);
   }
   
 }
@@ -32,8 +32,8 @@ public class DeclaredConstructorFinder implements MemberFinder<Constructor<?>> {
   }
   
   @Override
-  public Constructor find(Class<?> type) throws Exception {
-    return type.getDeclaredConstructor(parameterTypes);
+  public Constructor<?> find(Class<?> type) {
+    return ClassMembers.of(type).declaredConstructor(parameterTypes).orElse(null);
   }
   
 }
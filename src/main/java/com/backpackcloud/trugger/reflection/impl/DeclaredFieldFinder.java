@@ -32,8 +32,8 @@ public class DeclaredFieldFinder implements MemberFinder<Field> {
   }
   
   @Override
-  public Field find(Class<?> type) throws Exception {
-    return type.getDeclaredField(name);
+  public Field find(Class<?> type) {
+    return ClassMembers.of(type).declaredField(name).orElse(null);
   }
   
 }
@@ -18,8 +18,9 @@
  */
 package com.backpackcloud.trugger.reflection.impl;
 
+import com.backpackcloud.trugger.reflection.IndexKey;
+
 import java.lang.reflect.Field;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -28,7 +29,12 @@ import java.util.List;
 public class DeclaredFieldsFinder implements MembersFinder<Field> {
   
   public List<Field> find(Class<?> type) {
-    return Arrays.asList(type.getDeclaredFields());
+    return ClassMembers.of(type).declaredFields();
+  }
+
+  @Override
+  public List<Field> find(Class<?> type, IndexKey key) {
+    return ClassMembers.of(type).declaredFieldsIndex().select(key);
   }
   
 }
@@ -26,6 +26,10 @@ import java.lang.reflect.Method;
 /** @author Marcelo Guimaraes */
 public class DeclaredMemberFindersRegistry implements MemberFindersRegistry {
 
+  private final MembersFinder<Field> fieldsFinder = new DeclaredFieldsFinder();
+  private final MembersFinder<Method> methodsFinder = new DeclaredMethodsFinder();
+  private final MembersFinder<Constructor<?>> constructorsFinder = new DeclaredConstructorsFinder();
+
   @Override
   public MemberFinder<Field> fieldFinder(String name) {
     return new DeclaredFieldFinder(name);
@@ -33,7 +37,7 @@ public class DeclaredMemberFindersRegistry implements MemberFindersRegistry {
 
   @Override
   public MembersFinder<Field> fieldsFinder() {
-    return new DeclaredFieldsFinder();
+    return fieldsFinder;
   }
 
   @Override
@@ -43,7 +47,7 @@ public class DeclaredMemberFindersRegistry implements MemberFindersRegistry {
 
   @Override
   public MembersFinder<Method> methodsFinder() {
-    return new DeclaredMethodsFinder();
+    return methodsFinder;
   }
 
   @Override
@@ -53,7 +57,7 @@ public class DeclaredMemberFindersRegistry implements MemberFindersRegistry {
 
   @Override
   public MembersFinder<Constructor<?>> constructorsFinder() {
-    return new DeclaredConstructorsFinder();
+    return constructorsFinder;
   }
 
 }
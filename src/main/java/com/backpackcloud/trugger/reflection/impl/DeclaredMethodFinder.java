@@ -34,8 +34,8 @@ public class DeclaredMethodFinder implements MemberFinder<Method> {
   }
 
   @Override
-  public Method find(Class<?> type) throws Exception {
-    return type.getDeclaredMethod(name, parameterTypes);
+  public Method find(Class<?> type) {
+    return ClassMembers.of(type).declaredMethod(name, parameterTypes).orElse(null);
   }
   
 }
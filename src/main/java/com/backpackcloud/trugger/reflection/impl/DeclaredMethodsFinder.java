@@ -18,8 +18,9 @@
  */
 package com.backpackcloud.trugger.reflection.impl;
 
+import com.backpackcloud.trugger.reflection.IndexKey;
+
 import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -28,7 +29,12 @@ import java.util.List;
 public class DeclaredMethodsFinder implements MembersFinder<Method> {
   
   public List<Method> find(Class<?> type) {
-    return Arrays.asList(type.getDeclaredMethods());
+    return ClassMembers.of(type).declaredMethods();
+  }
+
+  @Override
+  public List<Method> find(Class<?> type, IndexKey key) {
+    return ClassMembers.of(type).declaredMethodsIndex().select(key);
   }
   
 }
@@ -32,8 +32,8 @@ public class FieldFinder implements MemberFinder<Field> {
   }
   
   @Override
-  public Field find(Class<?> type) throws Exception {
-    return type.getField(name);
+  public Field find(Class<?> type) {
+    return ClassMembers.of(type).field(name).orElse(null);
   }
   
 }
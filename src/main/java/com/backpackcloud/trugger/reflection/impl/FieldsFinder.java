@@ -18,8 +18,9 @@
  */
 package com.backpackcloud.trugger.reflection.impl;
 
+import com.backpackcloud.trugger.reflection.IndexKey;
+
 import java.lang.reflect.Field;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -28,7 +29,12 @@ import java.util.List;
 public class FieldsFinder implements MembersFinder<Field> {
   
   public List<Field> find(Class<?> type) {
-    return Arrays.asList(type.getFields());
+    return ClassMembers.of(type).fields();
+  }
+
+  @Override
+  public List<Field> find(Class<?> type, IndexKey key) {
+    return ClassMembers.of(type).fieldsIndex().select(key);
   }
   
 }
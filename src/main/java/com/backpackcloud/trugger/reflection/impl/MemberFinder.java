@@ -32,7 +32,7 @@ public interface MemberFinder<T extends Member> {
    * 
    * @param type
    *          the type for searching the object.
-   * @return the found object.
+   * @return the found object or <code>null</code> if no object is found.
    * @throws Exception
    *           if an error occurs.
    */
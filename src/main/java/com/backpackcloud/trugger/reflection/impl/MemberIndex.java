@@ -0,0 +1,149 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.reflection.impl;
+
+import com.backpackcloud.trugger.reflection.IndexKey;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Member;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+
+/**
+ * An index of a list of members by name, by number of parameters and by the
+ * annotations present on them.
+ * <p>
+ * The members selected through the index are returned in the same order they
+ * have in the indexed list.
+ *
+ * @param <T> the member type
+ * @since 7.1
+ */
+public final class MemberIndex<T extends Member> {
+
+  private final List<T> members;
+  private final Map<T, Integer> positions;
+  private final Map<String, List<T>> byName;
+  private final Map<Integer, List<T>> byArity;
+  private volatile Map<Class<? extends Annotation>, List<T>> byAnnotation;
+
+  public MemberIndex(List<T> members) {
+    this.members = members;
+    this.positions = new IdentityHashMap<>(members.size());
+    Map<String, List<T>> byName = new HashMap<>();
+    Map<Integer, List<T>> byArity = new HashMap<>();
+    for (T member : members) {
+      positions.put(member, positions.size());
+      byName.computeIfAbsent(member.getName(), name -> new ArrayList<>()).add(member);
+      if (member instanceof Executable) {
+        byArity.computeIfAbsent(((Executable) member).getParameterCount(), arity -> new ArrayList<>())
+            .add(member);
+      }
+    }
+    this.byName = immutable(byName);
+    this.byArity = immutable(byArity);
+  }
+
+  /**
+   * Selects the members that match the given key. The members that don't
+   * support the kind of the key (like fields for an arity key) are not
+   * narrowed.
+   *
+   * @param key the key to select the members
+   * @return the candidate members for the given key
+   */
+  public List<T> select(IndexKey key) {
+    if (key.names().isPresent()) {
+      return byNames(key.names().get());
+    }
+    if (key.annotationType().isPresent()) {
+      return byAnnotation().getOrDefault(key.annotationType().get(), Collections.emptyList());
+    }
+    OptionalInt arity = key.arity();
+    if (arity.isPresent() && (members.isEmpty() || members.get(0) instanceof Executable)) {
+      return byArity.getOrDefault(arity.getAsInt(), Collections.emptyList());
+    }
+    return members;
+  }
+
+  /**
+   * Returns the members with the given name.
+   *
+   * @param name the name of the members
+   * @return the members with the given name (an empty list if there is none)
+   */
+  public List<T> named(String name) {
+    return byName.getOrDefault(name, Collections.emptyList());
+  }
+
+  private List<T> byNames(Set<String> names) {
+    List<T> result = null;
+    boolean copied = false;
+    for (String name : names) {
+      List<T> found = byName.get(name);
+      if (found == null) {
+        continue;
+      }
+      if (result == null) {
+        result = found;
+      } else {
+        if (!copied) {
+          result = new ArrayList<>(result);
+          copied = true;
+        }
+        result.addAll(found);
+      }
+    }
+    if (result == null) {
+      return Collections.emptyList();
+    }
+    if (copied) {
+      result.sort((first, second) -> positions.get(first) - positions.get(second));
+    }
+    return result;
+  }
+
+  private Map<Class<? extends Annotation>, List<T>> byAnnotation() {
+    Map<Class<? extends Annotation>, List<T>> result = byAnnotation;
+    if (result == null) {
+      Map<Class<? extends Annotation>, List<T>> map = new HashMap<>();
+      for (T member : members) {
+        for (Annotation annotation : ((AnnotatedElement) member).getAnnotations()) {
+          map.computeIfAbsent(annotation.annotationType(), type -> new ArrayList<>()).add(member);
+        }
+      }
+      result = byAnnotation = immutable(map);
+    }
+    return result;
+  }
+
+  private static <K, T> Map<K, List<T>> immutable(Map<K, List<T>> map) {
+    map.replaceAll((key, list) -> List.copyOf(list));
+    return Collections.unmodifiableMap(map);
+  }
+
+}
@@ -60,8 +60,6 @@ public class MemberSelector<T extends Member> {
           element = predicate.test(element) ? element : null;
         }
       }
-    } catch (NoSuchMethodException | NoSuchFieldException e) {
-      return null;
     } catch (Exception e) {
       throw new ReflectionException(e);
     }
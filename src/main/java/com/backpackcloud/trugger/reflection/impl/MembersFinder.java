@@ -18,6 +18,8 @@
  */
 package com.backpackcloud.trugger.reflection.impl;
 
+import com.backpackcloud.trugger.reflection.IndexKey;
+
 import java.lang.reflect.Member;
 import java.util.List;
 
@@ -36,5 +38,20 @@ public interface MembersFinder<T extends Member> {
    * @return the found object.
    */
   List<T> find(Class<?> type);
+
+  /**
+   * Finds the objects in the specified type that may match the given key.
+   * <p>
+   * The returned objects are only candidates, they still need to be tested
+   * against the predicate that supplied the key.
+   *
+   * @param type the type for searching the objects.
+   * @param key  the key of the candidates.
+   * @return the candidates for the given key.
+   * @since 7.1
+   */
+  default List<T> find(Class<?> type, IndexKey key) {
+    return find(type);
+  }
   
 }
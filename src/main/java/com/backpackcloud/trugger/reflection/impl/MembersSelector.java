@@ -18,7 +18,11 @@
  */
 package com.backpackcloud.trugger.reflection.impl;
 
+import com.backpackcloud.trugger.reflection.IndexKey;
+import com.backpackcloud.trugger.reflection.IndexedPredicate;
 import com.backpackcloud.trugger.util.Utils;
+import com.backpackcloud.trugger.util.cache.Caches;
+import com.backpackcloud.trugger.util.cache.ClassCache;
 
 import java.lang.reflect.Member;
 import java.util.ArrayList;
@@ -26,7 +30,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A base class for selecting a set of {@link Member} objects.
@@ -39,18 +44,15 @@ public class MembersSelector<T extends Member> {
   private final MembersFinder<T> finder;
   private final Predicate<? super T> predicate;
   private final Function<Class, Iterable<Class>> function;
+  private final ClassCache<List<T>> cache;
 
   public MembersSelector(MembersFinder<T> finder) {
-    this.finder = finder;
-    this.predicate = null;
-    this.function = Collections::singletonList;
+    this(finder, null);
   }
 
   public MembersSelector(MembersFinder<T> finder,
                          Predicate<? super T> predicate) {
-    this.predicate = predicate;
-    this.finder = finder;
-    this.function = Collections::singletonList;
+    this(finder, predicate, Collections::singletonList);
   }
 
   public MembersSelector(MembersFinder<T> finder,
@@ -59,23 +61,64 @@ public class MembersSelector<T extends Member> {
     this.finder = finder;
     this.predicate = predicate;
     this.function = function;
+    this.cache = null;
+  }
+
+  private MembersSelector(MembersSelector<T> selector) {
+    this.finder = selector.finder;
+    this.predicate = selector.predicate;
+    this.function = selector.function;
+    this.cache = Caches.newCache(type -> Collections.unmodifiableList(select(type)));
+  }
+
+  /**
+   * Returns a selector that computes the selection only once for each class
+   * and reuses it for every target of that class. The predicate must depend
+   * only on the tested member.
+   *
+   * @return a selector that caches its results per class
+   * @since 7.1
+   */
+  public final MembersSelector<T> prepare() {
+    return cache != null ? this : new MembersSelector<>(this);
   }
 
   public final List<T> selectFrom(Object target) {
+    Class<?> type = Utils.resolveType(target);
+    return cache != null ? cache.get(type) : select(type);
+  }
+
+  private List<T> select(Class<?> target) {
     final List<T> list = new ArrayList<>();
-    for (Class type : function.apply(Utils.resolveType(target))) {
-      list.addAll(finder.find(type));
+    IndexKey key = predicate instanceof IndexedPredicate ? ((IndexedPredicate<?>) predicate).indexKey() : null;
+    for (Class type : function.apply(target)) {
+      for (T member : key != null ? finder.find(type, key) : finder.find(type)) {
+        if (predicate == null || predicate.test(member)) {
+          list.add(member);
+        }
+      }
     }
-    return applySelection(list);
+    return list;
   }
 
-  private List<T> applySelection(final List<T> list) {
-    if (predicate != null) {
-      return list.stream()
-          .filter(predicate)
-          .collect(Collectors.toList());
+  /**
+   * Selects the members of the given target lazily. The types and their
+   * members are only visited as the stream is consumed, so short-circuiting
+   * operations stop the search as soon as they are satisfied. Prepared
+   * selectors stream their cached selection.
+   *
+   * @param target the target to select the members
+   * @return a stream of the selected members
+   * @since 7.1
+   */
+  public final Stream<T> stream(Object target) {
+    if (cache != null) {
+      return cache.get(Utils.resolveType(target)).stream();
     }
-    return list;
+    IndexKey key = predicate instanceof IndexedPredicate ? ((IndexedPredicate<?>) predicate).indexKey() : null;
+    Stream<T> members = StreamSupport.stream(function.apply(Utils.resolveType(target)).spliterator(), false)
+        .flatMap(type -> (key != null ? finder.find(type, key) : finder.find(type)).stream());
+    return predicate == null ? members : members.filter(predicate);
   }
 
 }
@@ -34,8 +34,8 @@ public class MethodFinder implements MemberFinder<Method> {
   }
 
   @Override
-  public Method find(Class<?> type) throws Exception {
-    return type.getMethod(name, parameterTypes);
+  public Method find(Class<?> type) {
+    return ClassMembers.of(type).method(name, parameterTypes).orElse(null);
   }
   
 }
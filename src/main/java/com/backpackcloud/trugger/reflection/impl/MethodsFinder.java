@@ -18,8 +18,9 @@
  */
 package com.backpackcloud.trugger.reflection.impl;
 
+import com.backpackcloud.trugger.reflection.IndexKey;
+
 import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -28,7 +29,12 @@ import java.util.List;
 public class MethodsFinder implements MembersFinder<Method> {
   
   public List<Method> find(Class<?> type) {
-    return Arrays.asList(type.getMethods());
+    return ClassMembers.of(type).methods();
+  }
+
+  @Override
+  public List<Method> find(Class<?> type, IndexKey key) {
+    return ClassMembers.of(type).methodsIndex().select(key);
   }
   
 }
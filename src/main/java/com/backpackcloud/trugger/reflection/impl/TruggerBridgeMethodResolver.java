@@ -21,6 +21,8 @@ package com.backpackcloud.trugger.reflection.impl;
 import com.backpackcloud.trugger.reflection.ReflectedMethod;
 import com.backpackcloud.trugger.reflection.Reflection;
 import com.backpackcloud.trugger.reflection.ReflectionException;
+import com.backpackcloud.trugger.util.cache.Caches;
+import com.backpackcloud.trugger.util.cache.ClassCache;
 
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Method;
@@ -28,6 +30,8 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 /**
@@ -53,6 +57,10 @@ import java.util.function.Predicate;
  */
 final class TruggerBridgeMethodResolver {
 
+  // the bridged method of each resolved bridge method, per declaring class
+  private static final ClassCache<Map<Method, Optional<Method>>> bridgedMethods =
+      Caches.newCache(type -> new ConcurrentHashMap<>());
+
   private final Method bridgeMethod;
   private final Map<Type, Type> typeParameterMap;
 
@@ -61,6 +69,25 @@ final class TruggerBridgeMethodResolver {
     this.typeParameterMap = TruggerGenericTypeResolver.getTypeVariableMap(bridgeMethod.getDeclaringClass());
   }
 
+  /**
+   * Find the original method for the supplied {@link Method bridge Method},
+   * resolving it only on the first call for each bridge method.
+   *
+   * @param bridgeMethod the bridge method
+   * @return the original method for the supplied {@link Method bridge Method}
+   * @throws ReflectionException if no bridged {@link Method} can be found.
+   * @see #findBridgedMethod()
+   */
+  static Optional<Method> bridgedMethodFor(Method bridgeMethod) {
+    Map<Method, Optional<Method>> cache = bridgedMethods.get(bridgeMethod.getDeclaringClass());
+    Optional<Method> result = cache.get(bridgeMethod);
+    if (result == null) {
+      result = cache.computeIfAbsent(bridgeMethod,
+          method -> Optional.ofNullable(new TruggerBridgeMethodResolver(method).findBridgedMethod()));
+    }
+    return result;
+  }
+
   /**
    * Find the original method for the supplied {@link Method bridge Method}.
    * <p>
@@ -25,6 +25,7 @@ import java.lang.reflect.Constructor;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A default implementation for the constructors selector.
@@ -35,17 +36,25 @@ public final class TruggerConstructorsSelector implements ConstructorsSelector {
 
   private final MembersFinder<Constructor<?>> finder;
   private final Predicate<? super Constructor<?>> predicate;
+  private final MembersSelector<Constructor<?>> selector;
 
   public TruggerConstructorsSelector(MembersFinder<Constructor<?>> finder) {
-    this.finder = finder;
-    this.predicate = null;
+    this(finder, null);
   }
 
   public TruggerConstructorsSelector(
       MembersFinder<Constructor<?>> finder,
       Predicate<? super Constructor<?>> predicate) {
+    this(finder, predicate, new MembersSelector<>(finder, predicate));
+  }
+
+  private TruggerConstructorsSelector(
+      MembersFinder<Constructor<?>> finder,
+      Predicate<? super Constructor<?>> predicate,
+      MembersSelector<Constructor<?>> selector) {
     this.finder = finder;
     this.predicate = predicate;
+    this.selector = selector;
   }
 
   public ConstructorsSelector filter(
@@ -53,12 +62,22 @@ public final class TruggerConstructorsSelector implements ConstructorsSelector {
     return new TruggerConstructorsSelector(finder, predicate);
   }
 
+  @Override
+  public ConstructorsSelector prepare() {
+    return new TruggerConstructorsSelector(finder, predicate, selector.prepare());
+  }
+
   public List<ReflectedConstructor> from(Object target) {
-    return new MembersSelector<>(finder, predicate)
-        .selectFrom(target)
+    return selector.selectFrom(target)
         .stream()
         .map(TruggerReflectedConstructor::new)
         .collect(Collectors.toList());
   }
 
+  @Override
+  public Stream<ReflectedConstructor> stream(Object target) {
+    return selector.stream(target)
+        .map(TruggerReflectedConstructor::new);
+  }
+
 }
@@ -80,6 +80,60 @@ public class TruggerFieldHandler implements FieldHandler {
     }
   }
   
+  @Override
+  public int getInt() throws HandlingException {
+    try {
+      return field.getInt(instance);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public void setInt(int value) throws HandlingException {
+    try {
+      field.setInt(instance, value);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public long getLong() throws HandlingException {
+    try {
+      return field.getLong(instance);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public void setLong(long value) throws HandlingException {
+    try {
+      field.setLong(instance, value);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public double getDouble() throws HandlingException {
+    try {
+      return field.getDouble(instance);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public void setDouble(double value) throws HandlingException {
+    try {
+      field.setDouble(instance, value);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+  
   public ValueHandler on(Object source) {
     return new TruggerFieldHandler(field, source);
   }
@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A default implementation for the fields selector.
@@ -39,19 +40,26 @@ public class TruggerFieldsSelector implements FieldsSelector {
   private final MembersFinder<Field> finder;
   private final Predicate<? super Field> predicate;
   private final Function<Class, Iterable<Class>> function;
+  private final MembersSelector<Field> selector;
 
   public TruggerFieldsSelector(MembersFinder<Field> finder) {
-    this.finder = finder;
-    this.predicate = null;
-    this.function = Collections::singletonList;
+    this(finder, null, Collections::singletonList);
   }
 
   public TruggerFieldsSelector(MembersFinder<Field> finder,
                                Predicate<? super Field> predicate,
                                Function<Class, Iterable<Class>> function) {
+    this(finder, predicate, function, new MembersSelector<>(finder, predicate, function));
+  }
+
+  private TruggerFieldsSelector(MembersFinder<Field> finder,
+                                Predicate<? super Field> predicate,
+                                Function<Class, Iterable<Class>> function,
+                                MembersSelector<Field> selector) {
     this.finder = finder;
     this.predicate = predicate;
     this.function = function;
+    this.selector = selector;
   }
 
   @Override
@@ -64,12 +72,23 @@ public class TruggerFieldsSelector implements FieldsSelector {
     return new TruggerFieldsSelector(this.finder, this.predicate, Reflection::hierarchyOf);
   }
 
+  @Override
+  public FieldsSelector prepare() {
+    return new TruggerFieldsSelector(finder, predicate, function, selector.prepare());
+  }
+
+  @Override
   public List<ReflectedField> from(Object target) {
-    return new MembersSelector<>(finder, predicate, function)
-        .selectFrom(target)
+    return selector.selectFrom(target)
         .stream()
         .map(field -> new TruggerReflectedField(field, target))
         .collect(Collectors.toList());
   }
 
+  @Override
+  public Stream<ReflectedField> stream(Object target) {
+    return selector.stream(target)
+        .map(field -> new TruggerReflectedField(field, target));
+  }
+
 }
@@ -18,16 +18,16 @@
  */
 package com.backpackcloud.trugger.reflection.impl;
 
-import java.lang.ref.SoftReference;
+import com.backpackcloud.trugger.util.cache.Caches;
+import com.backpackcloud.trugger.util.cache.ClassCache;
+
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Helper class for resolving generic types against type variables.
@@ -41,9 +41,8 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 final class TruggerGenericTypeResolver {
 
-  //Changed to generic type
-  private static final SoftReference<Map<Class, Map<Type, Type>>> typeVariableCache =
-    new SoftReference<Map<Class, Map<Type, Type>>>(new ConcurrentHashMap<>(50));
+  // the resolved generic type information of each class
+  private static final ClassCache<TypeModel> models = Caches.newCache(TypeModel::new);
 
   private TruggerGenericTypeResolver() {
   }
@@ -70,17 +69,18 @@ final class TruggerGenericTypeResolver {
    * @return the parameter class.
    */
   static Class<?> resolveParameterName(String parameterName, Class<?> target) {
-    Map<Type, Type> typeVariableMap = getTypeVariableMap(target);
-    Set<Entry<Type, Type>> set = typeVariableMap.entrySet();
-    Type type = Object.class;
-
-    for (Entry<Type, Type> entry : set) {
-      if (entry.getKey().toString().equals(parameterName)) {
-        type = entry.getKey();
-        break;
-      }
-    }
-    return resolveType(type, typeVariableMap);
+    return models.get(target).parameters.getOrDefault(parameterName, Object.class);
+  }
+
+  /**
+   * Returns the generic parameters of a class, resolved by their names.
+   *
+   * @param target the target class
+   *
+   * @return an immutable map of the parameter names and their classes.
+   */
+  static Map<String, Class<?>> getResolvedParameters(Class<?> target) {
+    return models.get(target).parameters;
   }
 
   /**
@@ -107,56 +107,48 @@ final class TruggerGenericTypeResolver {
     }
   }
 
-  private static Map<Class, Map<Type, Type>> cache() {
-    Map<Class, Map<Type, Type>> map = typeVariableCache.get();
-    if (map == null) {
-      map = new ConcurrentHashMap<>(100);
-    }
-    return map;
-  }
-
   /**
    * Build a mapping of {@link TypeVariable#getName TypeVariable names} to concrete {@link
    * Class} for the specified {@link Class}. Searches all super types, enclosing types and
    * interfaces.
+   * <p/>
+   * The returned map is immutable and computed only once per class.
    */
   static Map<Type, Type> getTypeVariableMap(Class clazz) {
-    Map<Type, Type> typeVariableMap = cache().get(clazz);
+    return models.get(clazz).typeVariableMap;
+  }
 
-    if (typeVariableMap == null) {
-      typeVariableMap = new HashMap<>();
+  private static Map<Type, Type> buildTypeVariableMap(Class clazz) {
+    Map<Type, Type> typeVariableMap = new LinkedHashMap<>();
 
-      // interfaces
-      extractTypeVariablesFromGenericInterfaces(clazz.getGenericInterfaces(), typeVariableMap);
+    // interfaces
+    extractTypeVariablesFromGenericInterfaces(clazz.getGenericInterfaces(), typeVariableMap);
 
-      // super class
-      Type genericType = clazz.getGenericSuperclass();
-      Class type = clazz.getSuperclass();
-      while ((type != null) && !Object.class.equals(type)) {
-        if (genericType instanceof ParameterizedType) {
-          ParameterizedType pt = (ParameterizedType) genericType;
-          populateTypeMapFromParameterizedType(pt, typeVariableMap);
-        }
-        extractTypeVariablesFromGenericInterfaces(type.getGenericInterfaces(), typeVariableMap);
-        genericType = type.getGenericSuperclass();
-        type = type.getSuperclass();
+    // super class
+    Type genericType = clazz.getGenericSuperclass();
+    Class type = clazz.getSuperclass();
+    while ((type != null) && !Object.class.equals(type)) {
+      if (genericType instanceof ParameterizedType) {
+        ParameterizedType pt = (ParameterizedType) genericType;
+        populateTypeMapFromParameterizedType(pt, typeVariableMap);
       }
+      extractTypeVariablesFromGenericInterfaces(type.getGenericInterfaces(), typeVariableMap);
+      genericType = type.getGenericSuperclass();
+      type = type.getSuperclass();
+    }
 
-      // enclosing class
-      type = clazz;
-      while (type.isMemberClass()) {
-        genericType = type.getGenericSuperclass();
-        if (genericType instanceof ParameterizedType) {
-          ParameterizedType pt = (ParameterizedType) genericType;
-          populateTypeMapFromParameterizedType(pt, typeVariableMap);
-        }
-        type = type.getEnclosingClass();
+    // enclosing class
+    type = clazz;
+    while (type.isMemberClass()) {
+      genericType = type.getGenericSuperclass();
+      if (genericType instanceof ParameterizedType) {
+        ParameterizedType pt = (ParameterizedType) genericType;
+        populateTypeMapFromParameterizedType(pt, typeVariableMap);
       }
-
-      cache().put(clazz, typeVariableMap);
+      type = type.getEnclosingClass();
     }
 
-    return typeVariableMap;
+    return Collections.unmodifiableMap(typeVariableMap);
   }
 
   /** Extracts the bound <code>Type for a given {@link TypeVariable}. */
@@ -226,4 +218,23 @@ final class TruggerGenericTypeResolver {
     }
   }
 
+  /**
+   * The resolved generic types of a class.
+   */
+  private static final class TypeModel {
+
+    private final Map<Type, Type> typeVariableMap;
+    private final Map<String, Class<?>> parameters;
+
+    private TypeModel(Class<?> type) {
+      this.typeVariableMap = buildTypeVariableMap(type);
+      Map<String, Class<?>> parameters = new LinkedHashMap<>();
+      for (Type variable : typeVariableMap.keySet()) {
+        parameters.putIfAbsent(variable.toString(), resolveType(variable, typeVariableMap));
+      }
+      this.parameters = Collections.unmodifiableMap(parameters);
+    }
+
+  }
+
 }
@@ -0,0 +1,99 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.reflection.impl;
+
+import com.backpackcloud.trugger.reflection.MethodInvoker;
+import com.backpackcloud.trugger.reflection.Reflection;
+import com.backpackcloud.trugger.reflection.ReflectionException;
+import com.backpackcloud.trugger.util.cache.Caches;
+import com.backpackcloud.trugger.util.cache.ClassCache;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An implementation for invoking {@link Method} objects through a {@link MethodHandle}.
+ * <p>
+ * The handle is resolved once per method and adapted to a fixed
+ * <code>(Object, Object[])Object</code> shape, so every invocation is a single
+ * {@link MethodHandle#invokeExact(Object...) exact invocation} that the JIT can inline.
+ * Resolved handles are kept per declaring class, which allows them to be collected
+ * together with their classes.
+ *
+ * @since 7.1
+ */
+public class TruggerMethodHandleInvoker implements MethodInvoker {
+
+  private static final Object[] NO_ARGS = new Object[0];
+
+  private static final ClassCache<Map<Method, MethodHandle>> handles =
+      Caches.newCache(type -> new ConcurrentHashMap<>());
+
+  private final MethodHandle handle;
+  private final Object instance;
+
+  public TruggerMethodHandleInvoker(Method method) {
+    this(handles.get(method.getDeclaringClass())
+        .computeIfAbsent(method, TruggerMethodHandleInvoker::createHandle), null);
+  }
+
+  private TruggerMethodHandleInvoker(MethodHandle handle, Object instance) {
+    this.handle = handle;
+    this.instance = instance;
+  }
+
+  public MethodInvoker on(Object instance) {
+    return new TruggerMethodHandleInvoker(handle, instance);
+  }
+
+  public <E> E withArgs(Object... args) {
+    Object[] arguments = args != null ? args : NO_ARGS;
+    try {
+      Object result = handle.invokeExact(instance, arguments);
+      return (E) result;
+    } catch (Throwable e) {
+      throw new ReflectionException(e);
+    }
+  }
+
+  public <E> E withoutArgs() {
+    return withArgs(NO_ARGS);
+  }
+
+  private static MethodHandle createHandle(Method method) {
+    Reflection.setAccessible(method);
+    try {
+      MethodHandle handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+      handle = handle.asType(MethodType.genericMethodType(handle.type().parameterCount()));
+      if (Modifier.isStatic(method.getModifiers())) {
+        // the instance is ignored for static methods
+        handle = MethodHandles.dropArguments(handle, 0, Object.class);
+      }
+      return handle.asSpreader(Object[].class, method.getParameterCount());
+    } catch (IllegalAccessException e) {
+      throw new ReflectionException(e);
+    }
+  }
+
+}
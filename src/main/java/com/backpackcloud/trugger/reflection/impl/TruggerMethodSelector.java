@@ -85,9 +85,10 @@ public class TruggerMethodSelector implements MethodSelector {
           .selectFrom(target)
           .map(method -> new TruggerReflectedMethod(method, target));
     }
-    MembersSelector<Method> selector = new MembersSelector<>(registry.methodsFinder(), predicate, function);
-    return selector.selectFrom(target).stream()
-        .filter(ReflectionPredicates.ofName(name))
+    Predicate<Method> byName = ReflectionPredicates.ofName(name);
+    MembersSelector<Method> selector = new MembersSelector<>(registry.methodsFinder(),
+        predicate != null ? byName.and(predicate) : byName, function);
+    return selector.stream(target)
         .findAny()
         .map(method -> new TruggerReflectedMethod(method, target));
   }
@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A default implementation for the methods selector.
@@ -39,19 +40,26 @@ public class TruggerMethodsSelector implements MethodsSelector {
   private final MembersFinder<Method> finder;
   private final Predicate<? super Method> predicate;
   private final Function<Class, Iterable<Class>> function;
+  private final MembersSelector<Method> selector;
 
   public TruggerMethodsSelector(MembersFinder<Method> finder) {
-    this.finder = finder;
-    this.predicate = null;
-    this.function = Collections::singletonList;
+    this(finder, null, Collections::singletonList);
   }
 
   public TruggerMethodsSelector(MembersFinder<Method> finder,
                                 Predicate<? super Method> predicate,
                                 Function<Class, Iterable<Class>> function) {
+    this(finder, predicate, function, new MembersSelector<>(finder, predicate, function));
+  }
+
+  private TruggerMethodsSelector(MembersFinder<Method> finder,
+                                 Predicate<? super Method> predicate,
+                                 Function<Class, Iterable<Class>> function,
+                                 MembersSelector<Method> selector) {
     this.finder = finder;
     this.predicate = predicate;
     this.function = function;
+    this.selector = selector;
   }
 
   @Override
@@ -61,16 +69,26 @@ public class TruggerMethodsSelector implements MethodsSelector {
 
   @Override
   public MethodsSelector deep() {
-    return new TruggerMethodsSelector(finder, predicate, Reflection::hierarchyOf);
+    return new TruggerMethodsSelector(this.finder, this.predicate, Reflection::hierarchyOf);
+  }
+
+  @Override
+  public MethodsSelector prepare() {
+    return new TruggerMethodsSelector(finder, predicate, function, selector.prepare());
   }
 
   @Override
   public List<ReflectedMethod> from(Object target) {
-    return new MembersSelector<>(finder, predicate, function)
-        .selectFrom(target)
+    return selector.selectFrom(target)
         .stream()
         .map(method -> new TruggerReflectedMethod(method, target))
         .collect(Collectors.toList());
   }
 
+  @Override
+  public Stream<ReflectedMethod> stream(Object target) {
+    return selector.stream(target)
+        .map(method -> new TruggerReflectedMethod(method, target));
+  }
+
 }
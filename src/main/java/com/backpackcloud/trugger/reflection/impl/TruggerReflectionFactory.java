@@ -37,11 +37,11 @@ import java.lang.reflect.Method;
 public class TruggerReflectionFactory implements ReflectionFactory {
 
   public Reflector createReflector() {
-    return new TruggerReflector();
+    return TruggerReflector.DECLARED;
   }
 
   public MethodInvoker createInvoker(Method method) {
-    return method != null ? new TruggerMethodInvoker(method) : Null.NULL_METHOD_INVOKER;
+    return method != null ? new TruggerMethodHandleInvoker(method) : Null.NULL_METHOD_INVOKER;
   }
 
   public ConstructorInvoker createInvoker(Constructor<?> constructor) {
@@ -50,7 +50,11 @@ public class TruggerReflectionFactory implements ReflectionFactory {
   }
 
   public FieldHandler createHandler(Field field) {
-    return field != null ? new TruggerFieldHandler(field) : Null.NULL_FIELD_HANDLER;
+    if (field == null) {
+      return Null.NULL_FIELD_HANDLER;
+    }
+    return TruggerVarHandleFieldHandler.of(field)
+        .orElseGet(() -> new TruggerFieldHandler(field));
   }
 
 }
@@ -30,15 +30,9 @@ import com.backpackcloud.trugger.reflection.Reflector;
 import com.backpackcloud.trugger.util.Utils;
 
 import java.lang.reflect.Method;
-import java.lang.reflect.Type;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * An implementation of the reflection operations.
@@ -47,6 +41,21 @@ import java.util.stream.Collectors;
  */
 public class TruggerReflector implements Reflector {
 
+  /**
+   * The shared reflector for declared members. Reflectors and member finders
+   * don't hold any state, so the same instances are reused by every call.
+   *
+   * @since 7.1
+   */
+  static final TruggerReflector DECLARED = new TruggerReflector(new DeclaredMemberFindersRegistry());
+
+  /**
+   * The shared reflector for visible members.
+   *
+   * @since 7.1
+   */
+  static final TruggerReflector VISIBLE = new TruggerReflector(new VisibleMemberFindersRegistry());
+
   private final MemberFindersRegistry registry;
 
   public TruggerReflector(MemberFindersRegistry defaultRegistry) {
@@ -59,12 +68,12 @@ public class TruggerReflector implements Reflector {
 
   @Override
   public final Reflector visible() {
-    return new TruggerReflector(new VisibleMemberFindersRegistry());
+    return VISIBLE;
   }
 
   @Override
   public final Reflector declared() {
-    return new TruggerReflector(new DeclaredMemberFindersRegistry());
+    return DECLARED;
   }
 
   @Override
@@ -99,23 +108,7 @@ public class TruggerReflector implements Reflector {
 
   @Override
   public List<Class> interfacesOf(Object target) {
-    Class<?> objectClass = Utils.resolveType(target);
-    Set<Class> set = new HashSet<>(30);
-    for (Class c = objectClass;
-         (c != null) && !Object.class.equals(c);
-         c = c.getSuperclass()) {
-      for (Class interf : c.getInterfaces()) {
-        loop(interf, set);
-      }
-    }
-    return new ArrayList<>(set);
-  }
-
-  private void loop(Class interf, Collection<Class> interfaces) {
-    interfaces.add(interf);
-    for (Class extendedInterfaces : interf.getInterfaces()) {
-      loop(extendedInterfaces, interfaces);
-    }
+    return ClassMembers.of(Utils.resolveType(target)).interfaces();
   }
 
   @Override
@@ -125,26 +118,19 @@ public class TruggerReflector implements Reflector {
 
   @Override
   public Class genericTypeOf(Object target) {
-    Map<Type, Type> typeVariableMap =
-        TruggerGenericTypeResolver.getTypeVariableMap(Utils.resolveType(target));
-    Set<Type> keySet = typeVariableMap.keySet();
-    Set<String> paramNames = new HashSet<>(keySet.size());
-    paramNames.addAll(
-        keySet.stream().map(Type::toString)
-            .collect(Collectors.toList())
-    );
-    if (paramNames.isEmpty()) {
+    Map<String, Class<?>> parameters =
+        TruggerGenericTypeResolver.getResolvedParameters(Utils.resolveType(target));
+    if (parameters.isEmpty()) {
       throw new ReflectionException("No generic type found.");
-    } else if (paramNames.size() > 1) {
+    } else if (parameters.size() > 1) {
       throw new ReflectionException("More than one generic type found.");
     }
-    String name = paramNames.iterator().next();
-    return genericType(name).of(target);
+    return parameters.values().iterator().next();
   }
 
   @Override
   public Optional<Method> bridgedMethodFor(Method bridgeMethod) {
-    return Optional.of(new TruggerBridgeMethodResolver(bridgeMethod).findBridgedMethod());
+    return TruggerBridgeMethodResolver.bridgedMethodFor(bridgeMethod);
   }
 
 }
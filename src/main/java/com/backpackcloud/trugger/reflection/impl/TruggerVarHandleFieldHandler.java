@@ -0,0 +1,183 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.reflection.impl;
+
+import com.backpackcloud.trugger.HandlingException;
+import com.backpackcloud.trugger.reflection.FieldHandler;
+import com.backpackcloud.trugger.util.cache.Caches;
+import com.backpackcloud.trugger.util.cache.ClassCache;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation for the FieldHandler interface that uses a {@link VarHandle}.
+ * <p>
+ * The handle is resolved once per field and kept per declaring class. The primitive
+ * methods access the field without boxing its value.
+ *
+ * @since 7.1
+ */
+public class TruggerVarHandleFieldHandler implements FieldHandler {
+
+  private static final ClassCache<Map<Field, Optional<VarHandle>>> handles =
+      Caches.newCache(type -> new ConcurrentHashMap<>());
+
+  private final VarHandle handle;
+  private final boolean isStatic;
+  private final Object instance;
+
+  private TruggerVarHandleFieldHandler(VarHandle handle, boolean isStatic, Object instance) {
+    this.handle = handle;
+    this.isStatic = isStatic;
+    this.instance = instance;
+  }
+
+  /**
+   * Creates a handler for the given field if a {@link VarHandle} can be used to
+   * access it.
+   * <p>
+   * Final fields and fields whose declaring class is not open to this framework
+   * can't be handled by a {@link VarHandle}.
+   *
+   * @param field the field to be handled
+   * @return the handler for the field or an empty optional if the field can't be
+   * handled by a VarHandle.
+   */
+  public static Optional<FieldHandler> of(Field field) {
+    return handles.get(field.getDeclaringClass())
+        .computeIfAbsent(field, TruggerVarHandleFieldHandler::createHandle)
+        .map(handle -> new TruggerVarHandleFieldHandler(
+            handle, Modifier.isStatic(field.getModifiers()), null));
+  }
+
+  private static Optional<VarHandle> createHandle(Field field) {
+    if (Modifier.isFinal(field.getModifiers())) {
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(
+          MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup())
+              .unreflectVarHandle(field)
+      );
+    } catch (IllegalAccessException | RuntimeException e) {
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public <E> E getValue() throws HandlingException {
+    try {
+      Object value = isStatic ? handle.get() : handle.get(instance);
+      return (E) value;
+    } catch (RuntimeException e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public void setValue(Object value) throws HandlingException {
+    try {
+      if (isStatic) {
+        handle.set(value);
+      } else {
+        handle.set(instance, value);
+      }
+    } catch (RuntimeException e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public int getInt() throws HandlingException {
+    try {
+      return isStatic ? (int) handle.get() : (int) handle.get(instance);
+    } catch (RuntimeException e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public void setInt(int value) throws HandlingException {
+    try {
+      if (isStatic) {
+        handle.set(value);
+      } else {
+        handle.set(instance, value);
+      }
+    } catch (RuntimeException e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public long getLong() throws HandlingException {
+    try {
+      return isStatic ? (long) handle.get() : (long) handle.get(instance);
+    } catch (RuntimeException e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public void setLong(long value) throws HandlingException {
+    try {
+      if (isStatic) {
+        handle.set(value);
+      } else {
+        handle.set(instance, value);
+      }
+    } catch (RuntimeException e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public double getDouble() throws HandlingException {
+    try {
+      return isStatic ? (double) handle.get() : (double) handle.get(instance);
+    } catch (RuntimeException e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public void setDouble(double value) throws HandlingException {
+    try {
+      if (isStatic) {
+        handle.set(value);
+      } else {
+        handle.set(instance, value);
+      }
+    } catch (RuntimeException e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public FieldHandler on(Object source) {
+    return new TruggerVarHandleFieldHandler(handle, isStatic, source);
+  }
+
+}
@@ -26,6 +26,9 @@ import java.lang.reflect.Method;
 /** @author Marcelo Guimaraes */
 public class VisibleMemberFindersRegistry implements MemberFindersRegistry {
 
+  private final MembersFinder<Field> fieldsFinder = new FieldsFinder();
+  private final MembersFinder<Method> methodsFinder = new MethodsFinder();
+  private final MembersFinder<Constructor<?>> constructorsFinder = new ConstructorsFinder();
 
   @Override
   public MemberFinder<Field> fieldFinder(String name) {
@@ -34,7 +37,7 @@ public class VisibleMemberFindersRegistry implements MemberFindersRegistry {
 
   @Override
   public MembersFinder<Field> fieldsFinder() {
-    return new FieldsFinder();
+    return fieldsFinder;
   }
 
   @Override
@@ -44,7 +47,7 @@ public class VisibleMemberFindersRegistry implements MemberFindersRegistry {
 
   @Override
   public MembersFinder<Method> methodsFinder() {
-    return new MethodsFinder();
+    return methodsFinder;
   }
 
   @Override
@@ -54,7 +57,7 @@ public class VisibleMemberFindersRegistry implements MemberFindersRegistry {
 
   @Override
   public MembersFinder<Constructor<?>> constructorsFinder() {
-    return new ConstructorsFinder();
+    return constructorsFinder;
   }
 
 }
@@ -110,6 +110,34 @@ public interface Null {
     public void setValue(Object value) throws HandlingException {
 
     }
+
+    @Override
+    public int getInt() throws HandlingException {
+      return 0;
+    }
+
+    @Override
+    public void setInt(int value) throws HandlingException {
+    }
+
+    @Override
+    public long getLong() throws HandlingException {
+      return 0;
+    }
+
+    @Override
+    public void setLong(long value) throws HandlingException {
+    }
+
+    @Override
+    public double getDouble() throws HandlingException {
+      return 0;
+    }
+
+    @Override
+    public void setDouble(double value) throws HandlingException {
+    }
+
   };
 
   /**
@@ -126,6 +154,33 @@ public interface Null {
     public void setValue(Object value) throws HandlingException {
     }
 
+    @Override
+    public int getInt() throws HandlingException {
+      return 0;
+    }
+
+    @Override
+    public void setInt(int value) throws HandlingException {
+    }
+
+    @Override
+    public long getLong() throws HandlingException {
+      return 0;
+    }
+
+    @Override
+    public void setLong(long value) throws HandlingException {
+    }
+
+    @Override
+    public double getDouble() throws HandlingException {
+      return 0;
+    }
+
+    @Override
+    public void setDouble(double value) throws HandlingException {
+    }
+
     @Override
     public ValueHandler on(Object source) {
       return NULL_VALUE_HANDLER;
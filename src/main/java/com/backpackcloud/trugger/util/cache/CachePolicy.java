@@ -0,0 +1,75 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.util.cache;
+
+import com.backpackcloud.trugger.util.cache.impl.ClassValueCache;
+
+import java.util.function.Function;
+
+/**
+ * Interface that defines how the class caches are created.
+ *
+ * @see Caches#setPolicy(CachePolicy)
+ * @since 7.1
+ */
+@FunctionalInterface
+public interface CachePolicy {
+
+  /**
+   * Creates a new cache.
+   *
+   * @param loader the function to compute the value of a class
+   * @return the created cache.
+   */
+  <V> ClassCache<V> newCache(Function<Class<?>, V> loader);
+
+  /**
+   * A policy for caches that keep every value while its class is alive.
+   */
+  static CachePolicy unbounded() {
+    return new CachePolicy() {
+      @Override
+      public <V> ClassCache<V> newCache(Function<Class<?>, V> loader) {
+        return new ClassValueCache<>(loader, Integer.MAX_VALUE);
+      }
+    };
+  }
+
+  /**
+   * A policy for caches bounded by the number of classes.
+   * <p>
+   * Once the limit is reached, the values that were not used recently are
+   * discarded first (approximated by the CLOCK algorithm, so reading a value
+   * never blocks).
+   *
+   * @param maximumSize the maximum number of classes kept by each cache
+   */
+  static CachePolicy bounded(int maximumSize) {
+    if (maximumSize < 1) {
+      throw new IllegalArgumentException("The maximum size must be positive");
+    }
+    return new CachePolicy() {
+      @Override
+      public <V> ClassCache<V> newCache(Function<Class<?>, V> loader) {
+        return new ClassValueCache<>(loader, maximumSize);
+      }
+    };
+  }
+
+}
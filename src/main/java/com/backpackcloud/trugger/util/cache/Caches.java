@@ -0,0 +1,200 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.util.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A class for managing the class caches used by Trugger.
+ * <p>
+ * Every cache created through this class follows the current
+ * {@link CachePolicy} and can be invalidated at once, for a single class or
+ * for every class of a class loader (when redeploying an application, for
+ * example).
+ * <p>
+ * The caches whose values depend on the registered element finders or
+ * converters are created as {@link #newElementCache(Function) element caches},
+ * so a new registration only discards them and keeps the reflection caches.
+ *
+ * @since 7.1
+ */
+public final class Caches {
+
+  private static final Set<ManagedCache<?>> caches =
+      Collections.newSetFromMap(new WeakHashMap<>());
+
+  private static volatile CachePolicy policy = CachePolicy.unbounded();
+
+  private static volatile int generation;
+
+  private Caches() {
+  }
+
+  /**
+   * Creates a new cache that follows the current policy.
+   *
+   * @param loader the function to compute the value of a class
+   * @return the created cache.
+   */
+  public static <V> ClassCache<V> newCache(Function<Class<?>, V> loader) {
+    return register(new ManagedCache<>(loader, policy, false));
+  }
+
+  /**
+   * Creates a new cache that follows the current policy for values that
+   * depend on the registered element finders or converters (like the
+   * elements of a class or the copy plans).
+   *
+   * @param loader the function to compute the value of a class
+   * @return the created cache.
+   * @see #invalidateElementCaches()
+   */
+  public static <V> ClassCache<V> newElementCache(Function<Class<?>, V> loader) {
+    return register(new ManagedCache<>(loader, policy, true));
+  }
+
+  private static <V> ClassCache<V> register(ManagedCache<V> cache) {
+    synchronized (caches) {
+      caches.add(cache);
+    }
+    return cache;
+  }
+
+  /**
+   * Returns a number that changes every time the caches are invalidated or
+   * the policy changes. Objects that keep their own copies of cached values
+   * (like inline caches) can use it to detect that their copies are stale.
+   *
+   * @return the current generation of the caches.
+   */
+  public static int generation() {
+    return generation;
+  }
+
+  /**
+   * @return the current policy.
+   */
+  public static CachePolicy policy() {
+    return policy;
+  }
+
+  /**
+   * Changes the policy of every cache. The cached values are discarded.
+   *
+   * @param newPolicy the policy to use
+   */
+  public static void setPolicy(CachePolicy newPolicy) {
+    synchronized (caches) {
+      policy = newPolicy;
+      caches.forEach(cache -> cache.apply(newPolicy));
+      generation++;
+    }
+  }
+
+  /**
+   * Discards the values of the given class in every cache.
+   */
+  public static void invalidate(Class<?> type) {
+    forEach(cache -> cache.invalidate(type));
+  }
+
+  /**
+   * Discards the values of every class loaded by the given class loader in
+   * every cache.
+   */
+  public static void invalidate(ClassLoader classLoader) {
+    forEach(cache -> cache.invalidate(classLoader));
+  }
+
+  /**
+   * Discards all values of every cache.
+   */
+  public static void invalidateAll() {
+    forEach(ClassCache::invalidateAll);
+  }
+
+  /**
+   * Discards all values of the {@link #newElementCache(Function) element
+   * caches}. This should be called when the registered element finders or
+   * converters change.
+   */
+  public static void invalidateElementCaches() {
+    forEach(cache -> {
+      if (cache.elements) {
+        cache.invalidateAll();
+      }
+    });
+  }
+
+  private static void forEach(Consumer<ManagedCache<?>> action) {
+    List<ManagedCache<?>> snapshot;
+    synchronized (caches) {
+      snapshot = new ArrayList<>(caches);
+    }
+    snapshot.forEach(action);
+    synchronized (caches) {
+      generation++;
+    }
+  }
+
+  private static final class ManagedCache<V> implements ClassCache<V> {
+
+    private final Function<Class<?>, V> loader;
+    private final boolean elements;
+    private volatile ClassCache<V> delegate;
+
+    private ManagedCache(Function<Class<?>, V> loader, CachePolicy policy, boolean elements) {
+      this.loader = loader;
+      this.elements = elements;
+      this.delegate = policy.newCache(loader);
+    }
+
+    private void apply(CachePolicy policy) {
+      this.delegate = policy.newCache(loader);
+    }
+
+    @Override
+    public V get(Class<?> type) {
+      return delegate.get(type);
+    }
+
+    @Override
+    public void invalidate(Class<?> type) {
+      delegate.invalidate(type);
+    }
+
+    @Override
+    public void invalidate(ClassLoader classLoader) {
+      delegate.invalidate(classLoader);
+    }
+
+    @Override
+    public void invalidateAll() {
+      delegate.invalidateAll();
+    }
+
+  }
+
+}
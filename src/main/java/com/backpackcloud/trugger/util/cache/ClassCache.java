@@ -0,0 +1,61 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.util.cache;
+
+/**
+ * Interface that defines a cache of values computed for classes.
+ * <p>
+ * Each value is computed by the loader given to the cache, only once for each
+ * class while it stays cached. Implementations must not prevent the classes
+ * (and their class loaders) from being unloaded.
+ *
+ * @param <V> the type of the cached values
+ * @see Caches
+ * @since 7.1
+ */
+public interface ClassCache<V> {
+
+  /**
+   * Returns the value of the given class, loading it if needed.
+   *
+   * @param type the class to get the value
+   * @return the value of the given class.
+   */
+  V get(Class<?> type);
+
+  /**
+   * Discards the value of the given class.
+   *
+   * @param type the class to discard the value
+   */
+  void invalidate(Class<?> type);
+
+  /**
+   * Discards the values of every class loaded by the given class loader.
+   *
+   * @param classLoader the class loader of the classes to discard the values
+   */
+  void invalidate(ClassLoader classLoader);
+
+  /**
+   * Discards all values.
+   */
+  void invalidateAll();
+
+}
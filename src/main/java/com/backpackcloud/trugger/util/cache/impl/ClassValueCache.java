@@ -0,0 +1,194 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.util.cache.impl;
+
+import com.backpackcloud.trugger.util.cache.ClassCache;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A class cache that binds its values to the classes through a
+ * {@link ClassValue}, so a cached value never outlives its class.
+ * <p>
+ * Each value is loaded only once, and reading a loaded value never blocks.
+ * The loaded entries are tracked through weak references in a CLOCK ring,
+ * used both to evict the entries not used recently once the maximum size is
+ * reached and to find the entries of a class loader. The references cleared
+ * after their classes are unloaded are purged from the ring as new entries
+ * are loaded, so its size follows the number of live entries.
+ *
+ * @param <V> the type of the cached values
+ * @since 7.1
+ */
+public final class ClassValueCache<V> implements ClassCache<V> {
+
+  private final Function<Class<?>, V> loader;
+  private final int maximumSize;
+  private final List<WeakReference<Entry<V>>> clock = new ArrayList<>();
+  private final ReferenceQueue<Entry<V>> cleared = new ReferenceQueue<>();
+  private int clearedCount;
+  private int hand;
+
+  private volatile int generation;
+  private volatile ClassValue<Entry<V>> entries = newEntries();
+
+  public ClassValueCache(Function<Class<?>, V> loader, int maximumSize) {
+    this.loader = loader;
+    this.maximumSize = maximumSize;
+  }
+
+  @Override
+  public V get(Class<?> type) {
+    return entries.get(type).get(this);
+  }
+
+  @Override
+  public synchronized void invalidate(Class<?> type) {
+    removeIf(entry -> entry.type == type);
+  }
+
+  @Override
+  public synchronized void invalidate(ClassLoader classLoader) {
+    removeIf(entry -> entry.type.getClassLoader() == classLoader);
+  }
+
+  @Override
+  public synchronized void invalidateAll() {
+    generation++;
+    entries = newEntries();
+    clock.clear();
+    hand = 0;
+    clearedCount = 0;
+  }
+
+  private void removeIf(Predicate<Entry<V>> predicate) {
+    Iterator<WeakReference<Entry<V>>> iterator = clock.iterator();
+    while (iterator.hasNext()) {
+      Entry<V> entry = iterator.next().get();
+      if (entry == null) {
+        iterator.remove();
+      } else if (predicate.test(entry)) {
+        iterator.remove();
+        entries.remove(entry.type);
+      }
+    }
+    hand = 0;
+  }
+
+  private synchronized void register(Entry<V> entry) {
+    if (entry.generation != generation) {
+      return;
+    }
+    purge();
+    clock.add(new WeakReference<>(entry, cleared));
+    while (clock.size() > maximumSize) {
+      evict();
+    }
+  }
+
+  /**
+   * Removes the cleared references from the ring once they are at least half
+   * of it, which keeps the cost of purging constant per loaded entry.
+   */
+  private void purge() {
+    while (cleared.poll() != null) {
+      clearedCount++;
+    }
+    if (clearedCount > 0 && clearedCount >= clock.size() / 2) {
+      clock.removeIf(reference -> reference.get() == null);
+      clearedCount = 0;
+      hand = 0;
+    }
+  }
+
+  private void evict() {
+    while (true) {
+      if (hand >= clock.size()) {
+        hand = 0;
+      }
+      Entry<V> entry = clock.get(hand).get();
+      if (entry == null) {
+        clock.remove(hand);
+        return;
+      }
+      if (entry.referenced) {
+        entry.referenced = false;
+        hand++;
+      } else {
+        clock.remove(hand);
+        entries.remove(entry.type);
+        return;
+      }
+    }
+  }
+
+  private ClassValue<Entry<V>> newEntries() {
+    int entriesGeneration = generation;
+    return new ClassValue<Entry<V>>() {
+      @Override
+      protected Entry<V> computeValue(Class<?> type) {
+        return new Entry<>(type, entriesGeneration);
+      }
+    };
+  }
+
+  /**
+   * An entry bound to a class. It doesn't reference the cache, otherwise the
+   * ClassValue (and the cache) would be kept alive by the classes.
+   */
+  private static final class Entry<V> {
+
+    private final Class<?> type;
+    private final int generation;
+    private volatile V value;
+    private volatile boolean referenced;
+
+    private Entry(Class<?> type, int generation) {
+      this.type = type;
+      this.generation = generation;
+    }
+
+    private V get(ClassValueCache<V> cache) {
+      V result = value;
+      if (result == null) {
+        synchronized (this) {
+          result = value;
+          if (result == null) {
+            result = cache.loader.apply(type);
+            value = result;
+            referenced = true;
+            cache.register(this);
+          }
+        }
+      }
+      if (!referenced) {
+        referenced = true;
+      }
+      return result;
+    }
+
+  }
+
+}
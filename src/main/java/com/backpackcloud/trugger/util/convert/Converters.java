@@ -0,0 +1,198 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.util.convert;
+
+import com.backpackcloud.trugger.HandlingException;
+import com.backpackcloud.trugger.reflection.Reflection;
+import com.backpackcloud.trugger.util.Utils;
+import com.backpackcloud.trugger.util.cache.Caches;
+import com.backpackcloud.trugger.util.cache.ClassCache;
+import com.backpackcloud.trugger.util.convert.impl.StandardConverters;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A registry of the functions used to convert values between types.
+ * <p>
+ * The converter for each pair of types is resolved once and cached. The
+ * resolution uses, in this order:
+ * <ol>
+ * <li>the identity, if the types are assignable (including boxing)</li>
+ * <li>a converter {@link #register(Class, Class, Function) registered} for
+ * the source type, one of its superclasses or one of its interfaces (in
+ * this order)</li>
+ * <li>the standard converters: numbers, strings, enums and
+ * <code>java.time</code> types</li>
+ * </ol>
+ * Primitive types are handled as their wrappers. Any error while converting
+ * a value is thrown as a {@link HandlingException}.
+ * <p>
+ * The registered converters are strongly referenced, along with their types.
+ * When redeploying an application, {@link #unregister(ClassLoader) unregister}
+ * its converters, so its class loader can be unloaded.
+ *
+ * @since 7.1
+ */
+public final class Converters {
+
+  private static final Function<Object, Object> IDENTITY = value -> value;
+
+  private static final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> registry =
+      new ConcurrentHashMap<>();
+
+  private static final ClassCache<ClassCache<Optional<Function<Object, Object>>>> converters =
+      Caches.newElementCache(from -> Caches.newElementCache(to -> compile(from, to)));
+
+  private Converters() {
+  }
+
+  /**
+   * Registers a converter between the given types. Registered converters take
+   * precedence over the standard ones.
+   * <p>
+   * Since the resolved converters are also kept by other cached values (like
+   * the copy plans), the {@link Caches#invalidateElementCaches() element
+   * caches} are invalidated.
+   *
+   * @param from      the type of the values to convert
+   * @param to        the type to convert the values to
+   * @param converter the function that converts the values
+   */
+  public static <S, T> void register(Class<S> from, Class<T> to,
+                                     Function<? super S, ? extends T> converter) {
+    registry.computeIfAbsent(wrap(from), type -> new ConcurrentHashMap<>())
+        .put(wrap(to), (Function<Object, Object>) converter);
+    Caches.invalidateElementCaches();
+  }
+
+  /**
+   * Removes the converter registered between the given types.
+   *
+   * @param from the type of the values to convert
+   * @param to   the type to convert the values to
+   */
+  public static void unregister(Class<?> from, Class<?> to) {
+    Map<Class<?>, Function<Object, Object>> registered = registry.get(wrap(from));
+    if (registered != null && registered.remove(wrap(to)) != null) {
+      Caches.invalidateElementCaches();
+    }
+  }
+
+  /**
+   * Removes every registered converter that references the given class loader,
+   * either by its types or by the converter itself.
+   *
+   * @param classLoader the class loader to release
+   */
+  public static void unregister(ClassLoader classLoader) {
+    boolean removed = registry.keySet().removeIf(from -> from.getClassLoader() == classLoader);
+    for (Map<Class<?>, Function<Object, Object>> registered : registry.values()) {
+      removed |= registered.entrySet().removeIf(entry ->
+          entry.getKey().getClassLoader() == classLoader
+              || entry.getValue().getClass().getClassLoader() == classLoader);
+    }
+    if (removed) {
+      Caches.invalidateElementCaches();
+    }
+  }
+
+  /**
+   * Returns the converter between the given types.
+   *
+   * @param from the type of the values to convert
+   * @param to   the type to convert the values to
+   * @return the converter or an empty optional if the values cannot be
+   * converted.
+   */
+  public static Optional<Function<Object, Object>> converter(Class<?> from, Class<?> to) {
+    return converters.get(wrap(from)).get(wrap(to));
+  }
+
+  /**
+   * Checks if the given converter is the identity (the values don't need to be
+   * converted).
+   */
+  public static boolean isIdentity(Function<Object, Object> converter) {
+    return converter == IDENTITY;
+  }
+
+  /**
+   * Converts the given value to the given type.
+   *
+   * @param value the value to convert
+   * @param to    the type to convert the value to
+   * @return the converted value (<code>null</code> if the value is
+   * <code>null</code>)
+   * @throws HandlingException if the value cannot be converted
+   */
+  public static <T> T convert(Object value, Class<T> to) throws HandlingException {
+    if (value == null) {
+      return null;
+    }
+    return (T) converter(value.getClass(), to)
+        .orElseThrow(() -> new HandlingException(
+            "Cannot convert " + value.getClass().getName() + " to " + to.getName()))
+        .apply(value);
+  }
+
+  private static Optional<Function<Object, Object>> compile(Class<?> from, Class<?> to) {
+    if (Utils.areAssignable(to, from)) {
+      return Optional.of(IDENTITY);
+    }
+    Function<Object, Object> converter = registered(Reflection.hierarchyOf(from), to);
+    if (converter == null) {
+      converter = registered(Reflection.reflect().interfacesOf(from), to);
+    }
+    if (converter != null) {
+      return Optional.of(handlingErrors(converter));
+    }
+    return StandardConverters.find(from, to).map(Converters::handlingErrors);
+  }
+
+  private static Function<Object, Object> registered(List<Class> types, Class<?> to) {
+    for (Class<?> type : types) {
+      Map<Class<?>, Function<Object, Object>> registered = registry.get(type);
+      if (registered != null && registered.containsKey(to)) {
+        return registered.get(to);
+      }
+    }
+    return null;
+  }
+
+  private static Function<Object, Object> handlingErrors(Function<Object, Object> converter) {
+    return value -> {
+      try {
+        return converter.apply(value);
+      } catch (HandlingException e) {
+        throw e;
+      } catch (RuntimeException e) {
+        throw new HandlingException(e);
+      }
+    };
+  }
+
+  private static Class<?> wrap(Class<?> type) {
+    return type.isPrimitive() ? Reflection.wrapperFor(type) : type;
+  }
+
+}
@@ -0,0 +1,237 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.util.convert.impl;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAmount;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * The converters supplied by Trugger.
+ * <p>
+ * Conversions to an integral type or to a big number are exact: a conversion
+ * that would overflow or drop a fraction fails with an
+ * {@link ArithmeticException}. Conversions to <code>Double</code> and
+ * <code>Float</code> round to the nearest representable value (so large or
+ * very precise values may lose precision) and fail only if the value is out
+ * of their range.
+ *
+ * @since 7.1
+ */
+public final class StandardConverters {
+
+  private static final Set<Class<?>> INTEGRAL_TYPES = Set.of(
+      Byte.class, Short.class, Integer.class, Long.class
+  );
+
+  private static final Map<Class<?>, Function<String, Object>> PARSERS = Map.ofEntries(
+      Map.entry(Byte.class, Byte::valueOf),
+      Map.entry(Short.class, Short::valueOf),
+      Map.entry(Integer.class, Integer::valueOf),
+      Map.entry(Long.class, Long::valueOf),
+      Map.entry(Float.class, Float::valueOf),
+      Map.entry(Double.class, Double::valueOf),
+      Map.entry(BigInteger.class, BigInteger::new),
+      Map.entry(BigDecimal.class, BigDecimal::new),
+      Map.entry(Boolean.class, StandardConverters::parseBoolean),
+      Map.entry(Character.class, StandardConverters::parseCharacter),
+      Map.entry(UUID.class, UUID::fromString),
+      Map.entry(Instant.class, Instant::parse),
+      Map.entry(LocalDate.class, LocalDate::parse),
+      Map.entry(LocalTime.class, LocalTime::parse),
+      Map.entry(LocalDateTime.class, LocalDateTime::parse),
+      Map.entry(OffsetDateTime.class, OffsetDateTime::parse),
+      Map.entry(ZonedDateTime.class, ZonedDateTime::parse),
+      Map.entry(Year.class, Year::parse),
+      Map.entry(YearMonth.class, YearMonth::parse),
+      Map.entry(Duration.class, Duration::parse),
+      Map.entry(Period.class, Period::parse)
+  );
+
+  private StandardConverters() {
+  }
+
+  /**
+   * Returns the standard converter between the given types. The types must
+   * not be primitive.
+   *
+   * @param from the type of the values to convert
+   * @param to   the type to convert the values to
+   * @return the converter or an empty optional if the types are not supported
+   */
+  public static Optional<Function<Object, Object>> find(Class<?> from, Class<?> to) {
+    if (to == String.class) {
+      return toString(from);
+    }
+    if (from == String.class) {
+      return fromString(to);
+    }
+    if (Number.class.isAssignableFrom(from) && Number.class.isAssignableFrom(to)) {
+      return toNumber(from, to);
+    }
+    if (Date.class.isAssignableFrom(from) && to == Instant.class) {
+      return Optional.of(value -> ((Date) value).toInstant());
+    }
+    if (from == Instant.class && to == Date.class) {
+      return Optional.of(value -> Date.from((Instant) value));
+    }
+    if (from == LocalDateTime.class && to == LocalDate.class) {
+      return Optional.of(value -> ((LocalDateTime) value).toLocalDate());
+    }
+    if (from == LocalDateTime.class && to == LocalTime.class) {
+      return Optional.of(value -> ((LocalDateTime) value).toLocalTime());
+    }
+    return Optional.empty();
+  }
+
+  private static Optional<Function<Object, Object>> toString(Class<?> from) {
+    if (Enum.class.isAssignableFrom(from)) {
+      return Optional.of(value -> ((Enum) value).name());
+    }
+    if (Number.class.isAssignableFrom(from)
+        || from == Boolean.class
+        || from == Character.class
+        || from == UUID.class
+        || TemporalAccessor.class.isAssignableFrom(from)
+        || TemporalAmount.class.isAssignableFrom(from)) {
+      return Optional.of(String::valueOf);
+    }
+    return Optional.empty();
+  }
+
+  private static Optional<Function<Object, Object>> fromString(Class<?> to) {
+    if (to.isEnum()) {
+      return Optional.of(value -> Enum.valueOf((Class) to, (String) value));
+    }
+    Function<String, Object> parser = PARSERS.get(to);
+    if (parser == null) {
+      return Optional.empty();
+    }
+    return Optional.of(value -> parser.apply((String) value));
+  }
+
+  private static Optional<Function<Object, Object>> toNumber(Class<?> from, Class<?> to) {
+    boolean integral = INTEGRAL_TYPES.contains(from);
+    if (to == Long.class) {
+      return Optional.of(integral ?
+          value -> ((Number) value).longValue() :
+          value -> decimal(value).longValueExact());
+    }
+    if (to == Integer.class) {
+      return Optional.of(integral ?
+          value -> Math.toIntExact(((Number) value).longValue()) :
+          value -> decimal(value).intValueExact());
+    }
+    if (to == Short.class) {
+      return Optional.of(integral ?
+          value -> (short) checkRange(((Number) value).longValue(), Short.MIN_VALUE, Short.MAX_VALUE) :
+          value -> decimal(value).shortValueExact());
+    }
+    if (to == Byte.class) {
+      return Optional.of(integral ?
+          value -> (byte) checkRange(((Number) value).longValue(), Byte.MIN_VALUE, Byte.MAX_VALUE) :
+          value -> decimal(value).byteValueExact());
+    }
+    if (to == Double.class) {
+      return Optional.of(value -> checkFinite(value, ((Number) value).doubleValue()));
+    }
+    if (to == Float.class) {
+      return Optional.of(value -> (float) checkFinite(value, ((Number) value).floatValue()));
+    }
+    if (to == BigInteger.class) {
+      return Optional.of(integral ?
+          value -> BigInteger.valueOf(((Number) value).longValue()) :
+          value -> decimal(value).toBigIntegerExact());
+    }
+    if (to == BigDecimal.class) {
+      return Optional.of(StandardConverters::decimal);
+    }
+    return Optional.empty();
+  }
+
+  private static BigDecimal decimal(Object value) {
+    if (value instanceof BigDecimal) {
+      return (BigDecimal) value;
+    }
+    if (value instanceof BigInteger) {
+      return new BigDecimal((BigInteger) value);
+    }
+    if (value instanceof Double || value instanceof Float) {
+      return BigDecimal.valueOf(((Number) value).doubleValue());
+    }
+    if (INTEGRAL_TYPES.contains(value.getClass())) {
+      return BigDecimal.valueOf(((Number) value).longValue());
+    }
+    return new BigDecimal(value.toString());
+  }
+
+  private static long checkRange(long value, long min, long max) {
+    if (value < min || value > max) {
+      throw new ArithmeticException("Value out of range: " + value);
+    }
+    return value;
+  }
+
+  private static double checkFinite(Object value, double converted) {
+    if (Double.isInfinite(converted) && !isInfinite(value)) {
+      throw new ArithmeticException("Value out of range: " + value);
+    }
+    return converted;
+  }
+
+  private static boolean isInfinite(Object value) {
+    return (value instanceof Double && ((Double) value).isInfinite())
+        || (value instanceof Float && ((Float) value).isInfinite());
+  }
+
+  private static Boolean parseBoolean(String value) {
+    if ("true".equalsIgnoreCase(value)) {
+      return Boolean.TRUE;
+    }
+    if ("false".equalsIgnoreCase(value)) {
+      return Boolean.FALSE;
+    }
+    throw new IllegalArgumentException("Not a boolean: " + value);
+  }
+
+  private static Character parseCharacter(String value) {
+    if (value.length() != 1) {
+      throw new IllegalArgumentException("Not a single character: " + value);
+    }
+    return value.charAt(0);
+  }
+
+}
@@ -19,6 +19,7 @@
 
 package com.backpackcloud.trugger.element;
 
+import com.backpackcloud.trugger.HandlingException;
 import org.junit.Before;
 import org.junit.Test;
 import io.backpackcloud.kodo.Spec;
@@ -26,6 +27,8 @@ import io.backpackcloud.kodo.Spec;
 import java.util.List;
 import java.util.function.Function;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static io.backpackcloud.kodo.Expectation.it;
 import static io.backpackcloud.kodo.Expectation.to;
 import static com.backpackcloud.trugger.element.ElementPredicates.readable;
@@ -108,4 +111,49 @@ public class ArrayElementTest implements ElementExpectations {
         .expect(Element::getValue, to().be(33));
   }
 
+  @Test
+  public void testPrimitiveAccess() {
+    int[] values = {1, 2, 3};
+    Element element = element("1").from(values).get();
+    element.on(values).setInt(20);
+    assertEquals(20, element.on(values).getInt());
+    assertEquals(20L, element.on(values).getLong());
+    assertEquals(20.0, element.on(values).getDouble(), 0.0);
+
+    double[] doubles = {1.0, 2.0};
+    element("first").from(doubles).get().on(doubles).setLong(10);
+    assertEquals(10.0, doubles[0], 0.0);
+  }
+
+  @Test(expected = HandlingException.class)
+  public void testNarrowingAccess() {
+    long[] values = {1L};
+    element("0").from(values).get().on(values).getInt();
+  }
+
+  @Test
+  public void testBulkOperations() {
+    short[] samples = {1, 2, 3, 4, 5};
+    assertArrayEquals(new int[]{2, 3, 4}, ArrayElements.readInts(samples, 1, 4));
+    assertArrayEquals(new long[]{1, 2}, ArrayElements.readLongs(samples, 0, 2));
+    assertArrayEquals(new double[]{5.0}, ArrayElements.readDoubles(samples, 4, 5), 0.0);
+
+    long[] longs = new long[5];
+    ArrayElements.fill(longs, 1, new int[]{7, 8});
+    assertArrayEquals(new long[]{0, 7, 8, 0, 0}, longs);
+
+    double[] doubles = new double[5];
+    ArrayElements.copy(samples, 0, doubles, 0, 5);
+    assertArrayEquals(new double[]{1, 2, 3, 4, 5}, doubles, 0.0);
+
+    int[] ints = {1, 2, 3, 4};
+    ArrayElements.copy(ints, 0, ints, 1, 3);
+    assertArrayEquals(new int[]{1, 1, 2, 3}, ints);
+  }
+
+  @Test(expected = HandlingException.class)
+  public void testUnsupportedCopy() {
+    ArrayElements.copy(new double[1], 0, new int[1], 0, 1);
+  }
+
 }
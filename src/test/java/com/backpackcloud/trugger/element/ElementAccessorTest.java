@@ -0,0 +1,159 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element;
+
+import com.backpackcloud.trugger.HandlingException;
+import com.backpackcloud.trugger.util.cache.Caches;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ElementAccessorTest {
+
+  public static class Product {
+    private String name;
+    private double price;
+
+    Product(String name, double price) {
+      this.name = name;
+      this.price = price;
+    }
+  }
+
+  public static class Book extends Product {
+    private int pages;
+
+    Book(String name, double price, int pages) {
+      super(name, price);
+      this.pages = pages;
+    }
+  }
+
+  public static class Food extends Product {
+    Food(String name, double price) {
+      super(name, price);
+    }
+  }
+
+  public static class Toy extends Product {
+    Toy(String name, double price) {
+      super(name, price);
+    }
+  }
+
+  public static class Game extends Toy {
+    Game(String name, double price) {
+      super(name, price);
+    }
+  }
+
+  public static class Service {
+    private long price;
+
+    Service(long price) {
+      this.price = price;
+    }
+  }
+
+  @Test
+  public void testPolymorphicAccess() {
+    ElementAccessor price = Elements.accessor("price");
+    assertEquals("price", price.name());
+
+    List<Object> objects = List.of(
+        new Product("pen", 1.5),
+        new Book("book", 20, 300),
+        new Food("apple", 0.5),
+        new Toy("ball", 5),
+        new Game("chess", 30),
+        new Service(100)
+    );
+    // more receivers than the inline entries, twice
+    for (int i = 0; i < 2; i++) {
+      assertEquals(1.5, price.getDouble(objects.get(0)), 0);
+      assertEquals(20.0, (double) price.get(objects.get(1)), 0);
+      assertEquals(0.5, price.getDouble(objects.get(2)), 0);
+      assertEquals(5.0, (double) price.get(objects.get(3)), 0);
+      assertEquals(30.0, price.getDouble(objects.get(4)), 0);
+      assertEquals(100L, price.getLong(objects.get(5)));
+      assertEquals(100.0, price.getDouble(objects.get(5)), 0);
+    }
+  }
+
+  @Test
+  public void testWrite() {
+    ElementAccessor price = Elements.accessor("price");
+    Book book = new Book("book", 20, 300);
+    price.set(book, 25.0);
+    assertEquals(25.0, ((Product) book).price, 0);
+
+    Service service = new Service(100);
+    price.set(service, 200L);
+    assertEquals(200L, service.price);
+
+    assertEquals(300, Elements.accessor("pages").getInt(book));
+  }
+
+  @Test
+  public void testMaps() {
+    ElementAccessor price = Elements.accessor("price");
+    Map<String, Object> map = new HashMap<>();
+    map.put("price", 10);
+    assertEquals(10, (int) price.get(map));
+    assertEquals(10, price.getInt(map));
+    price.set(map, 15);
+    assertEquals(15, map.get("price"));
+    assertEquals(15, price.getInt(map));
+  }
+
+  @Test
+  public void testInvalidation() {
+    ElementAccessor name = Elements.accessor("name");
+    Product product = new Product("pen", 1.5);
+    assertEquals("pen", name.get(product));
+    Caches.invalidateAll();
+    assertEquals("pen", name.get(product));
+  }
+
+  @Test
+  public void testNullTarget() {
+    assertNull(Elements.accessor("price").get(null));
+  }
+
+  @Test(expected = HandlingException.class)
+  public void testWriteOnNullTarget() {
+    Elements.accessor("price").set(null, 10.0);
+  }
+
+  @Test(expected = HandlingException.class)
+  public void testMissingElement() {
+    Elements.accessor("weight").get(new Product("pen", 1.5));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNestedName() {
+    Elements.accessor("customer.name");
+  }
+
+}
@@ -18,16 +18,20 @@
  */
 package com.backpackcloud.trugger.element;
 
+import com.backpackcloud.trugger.util.convert.Converters;
 import org.junit.Before;
 import org.junit.Test;
 import io.backpackcloud.kodo.Spec;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
 import static io.backpackcloud.kodo.Expectation.to;
 import static com.backpackcloud.trugger.element.ElementPredicates.ofName;
 import static com.backpackcloud.trugger.element.Elements.copy;
@@ -204,6 +208,169 @@ public class ElementCopyTest {
         .to(new TestObject(null, null));
   }
 
+  public static class Source {
+    private Object value;
+    private Number number;
+    private String text;
+  }
+
+  public static class Destination {
+    private String value;
+    private Integer number;
+    private String text;
+  }
+
+  @Test
+  public void testCopyConvertingTypes() {
+    Source source = new Source();
+    source.value = "a string";
+    source.number = 10L;
+    source.text = "text";
+    Destination destination = new Destination();
+    destination.number = 5;
+
+    copy().from(source).to(destination);
+    assertEquals("a string", destination.value);
+    assertEquals(Integer.valueOf(10), destination.number);
+    assertEquals("text", destination.text);
+
+    source.value = 10;
+    source.number = 20.0;
+    copy().from(source).to(destination);
+    assertEquals("10", destination.value);
+    assertEquals(Integer.valueOf(20), destination.number);
+
+    source.value = new Object();
+    copy().from(source).to(destination);
+    assertEquals("10", destination.value);
+  }
+
+  public static class Code {
+    private String code;
+    private String name;
+  }
+
+  public static class NumericCode {
+    private Integer code;
+    private String name;
+  }
+
+  @Test
+  public void testCopySkippingFailedConversions() {
+    Code source = new Code();
+    source.code = "abc";
+    source.name = "n";
+
+    NumericCode destination = new NumericCode();
+    copy().from(source).to(destination);
+    assertNull(destination.code);
+    assertEquals("n", destination.name);
+
+    destination = new NumericCode();
+    copy().from(source).filter(copy -> true).to(destination);
+    assertNull(destination.code);
+    assertEquals("n", destination.name);
+
+    source.code = "10";
+    copy().from(source).to(destination);
+    assertEquals(Integer.valueOf(10), destination.code);
+  }
+
+  public static class Version {
+    private final int number;
+
+    Version(int number) {
+      this.number = number;
+    }
+  }
+
+  public static class Release {
+    private Version version;
+  }
+
+  public static class ReleaseInfo {
+    private String version;
+  }
+
+  @Test
+  public void testCopyAfterRegisteringConverter() {
+    Release release = new Release();
+    release.version = new Version(7);
+    ReleaseInfo info = new ReleaseInfo();
+
+    copy().from(release).to(info);
+    assertNull(info.version);
+
+    Converters.register(Version.class, String.class, version -> "v" + version.number);
+    copy().from(release).to(info);
+    assertEquals("v7", info.version);
+  }
+
+  @Test
+  public void testCopyToDifferentTypesWithSelector() {
+    OtherTestObject other = new OtherTestObject();
+    other.setWeight(30.4);
+    copy(elements().filter(ofName("weight")))
+        .from(testObject)
+        .to(other);
+    assertEquals(80.2, other.getWeight(), 0.0);
+    assertEquals(null, other.getName());
+  }
+
+  private List<TestObject> testObjects(int count) {
+    List<TestObject> objects = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      TestObject object = new TestObject("Name " + i, "Last Name " + i);
+      object.age = i;
+      object.setNickName("Nick " + i);
+      objects.add(object);
+    }
+    return objects;
+  }
+
+  @Test
+  public void testToEach() {
+    List<OtherTestObject> dests = List.of(new OtherTestObject(), new OtherTestObject());
+    copy().from(testObject).toEach(dests);
+    for (OtherTestObject dest : dests) {
+      assertEquals("Marcelo", dest.getName());
+      assertEquals(80.2, dest.getWeight(), 0.0);
+    }
+  }
+
+  @Test
+  public void testMapAll() {
+    List<TestObject> sources = testObjects(100);
+    List<OtherTestObject> result = copy().mapAll(sources, OtherTestObject::new);
+    assertEquals(100, result.size());
+    for (int i = 0; i < 100; i++) {
+      assertEquals("Name " + i, result.get(i).getName());
+      assertEquals("Last Name " + i, result.get(i).getLastName());
+    }
+  }
+
+  @Test
+  public void testParallelMapAll() {
+    List<TestObject> sources = testObjects(10000);
+    List<TestObject> result = copy().parallel().mapAll(sources, () -> new TestObject(null, null));
+    assertEquals(10000, result.size());
+    for (int i = 0; i < 10000; i++) {
+      assertEquals("Nick " + i, result.get(i).getNickName());
+      assertEquals(i, result.get(i).getAge());
+    }
+  }
+
+  @Test
+  public void testParallelToEach() {
+    List<TestObject> dests = testObjects(1000);
+    copy().parallel().from(testObject).notNull().toEach(dests);
+    for (TestObject dest : dests) {
+      assertEquals(23, dest.getAge());
+      assertEquals(80.2, dest.getWeight(), 0.0);
+      assertNotEquals(null, dest.getNickName());
+    }
+  }
+
   private void assertFilter(ElementCopy copy) {
     assertEquals("name", copy.src().name());
     assertEquals("name", copy.dest().name());
@@ -0,0 +1,213 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element;
+
+import com.backpackcloud.trugger.HandlingException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.backpackcloud.trugger.element.Elements.copy;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ElementDeepCopyTest {
+
+  public enum Status {
+    OPEN, CLOSED
+  }
+
+  public static class Node {
+    private String name;
+    private Status status;
+    private Node parent;
+    private List<Node> children = new ArrayList<>();
+    private Map<String, Node> index = new HashMap<>();
+    private int[] values;
+    private Node[] links;
+    private Date created;
+
+    static Node shared;
+
+    public Node() {
+    }
+
+    Node(String name) {
+      this.name = name;
+    }
+
+    Node add(Node child) {
+      child.parent = this;
+      children.add(child);
+      index.put(child.name, child);
+      return this;
+    }
+  }
+
+  public static class NoDefaultConstructor {
+    private final String value;
+
+    public NoDefaultConstructor(String value) {
+      this.value = value;
+    }
+  }
+
+  public static class Holder {
+    private NoDefaultConstructor value;
+  }
+
+  public static class Values {
+    private EnumMap<Status, Node> byStatus = new EnumMap<>(Status.class);
+    private TreeMap<String, Node> byName = new TreeMap<>(Comparator.reverseOrder());
+    private TreeSet<String> names = new TreeSet<>(Comparator.reverseOrder());
+    private StringBuilder text = new StringBuilder("text");
+    private Calendar calendar = Calendar.getInstance();
+    private AtomicInteger counter = new AtomicInteger(10);
+    private AtomicReference<Node> current = new AtomicReference<>();
+  }
+
+  @Test
+  public void testCopyOf() {
+    Node root = new Node("root");
+    root.status = Status.OPEN;
+    root.values = new int[]{1, 2, 3};
+    root.created = new Date();
+    Node copy = copy().deep().copyOf(root);
+
+    assertNotSame(root, copy);
+    assertSame(root.name, copy.name);
+    assertSame(Status.OPEN, copy.status);
+    assertNotSame(root.values, copy.values);
+    assertArrayEquals(root.values, copy.values);
+    assertNotSame(root.created, copy.created);
+    assertEquals(root.created, copy.created);
+    assertNotSame(root.children, copy.children);
+  }
+
+  @Test
+  public void testJdkValues() {
+    Node node = new Node("node");
+    Values values = new Values();
+    values.byStatus.put(Status.OPEN, node);
+    values.byName.put("node", node);
+    values.names.add("a");
+    values.names.add("b");
+    values.current.set(node);
+    Values copy = copy().deep().copyOf(values);
+
+    assertNotSame(values.byStatus, copy.byStatus);
+    Node nodeCopy = copy.byStatus.get(Status.OPEN);
+    assertNotSame(node, nodeCopy);
+    assertEquals("node", nodeCopy.name);
+    assertSame(nodeCopy, copy.byName.get("node"));
+    assertSame(nodeCopy, copy.current.get());
+    assertSame(values.byName.comparator(), copy.byName.comparator());
+    assertEquals("b", copy.names.first());
+
+    assertNotSame(values.text, copy.text);
+    assertEquals("text", copy.text.toString());
+    assertNotSame(values.calendar, copy.calendar);
+    assertEquals(values.calendar, copy.calendar);
+    assertNotSame(values.counter, copy.counter);
+    assertEquals(10, copy.counter.get());
+  }
+
+  @Test
+  public void testCycles() {
+    Node root = new Node("root");
+    Node child = new Node("child");
+    root.add(child);
+    child.add(new Node("grandchild"));
+
+    Node copy = copy().deep().copyOf(root);
+    Node childCopy = copy.children.get(0);
+
+    assertNotSame(child, childCopy);
+    assertSame(copy, childCopy.parent);
+    assertSame(childCopy, copy.index.get("child"));
+    assertSame(childCopy, childCopy.children.get(0).parent);
+    assertEquals("grandchild", childCopy.children.get(0).name);
+  }
+
+  @Test
+  public void testSharedReferences() {
+    Node root = new Node("root");
+    Node child = new Node("child");
+    root.links = new Node[]{child, child, null};
+    root.children.add(child);
+
+    Node copy = copy().deep().copyOf(root);
+
+    assertNotSame(child, copy.links[0]);
+    assertSame(copy.links[0], copy.links[1]);
+    assertSame(copy.links[0], copy.children.get(0));
+    assertNull(copy.links[2]);
+  }
+
+  @Test
+  public void testCopyToExistingObject() {
+    Node root = new Node("root");
+    root.add(new Node("child"));
+    Node dest = new Node();
+
+    copy().deep().from(root).to(dest);
+
+    assertEquals("root", dest.name);
+    assertNotSame(root.children, dest.children);
+    assertSame(dest, dest.children.get(0).parent);
+  }
+
+  @Test
+  public void testStaticElements() {
+    Node shared = new Node("shared");
+    Node.shared = shared;
+    copy().deep().copyOf(new Node("root"));
+    assertSame(shared, Node.shared);
+  }
+
+  @Test
+  public void testShallowCopyOf() {
+    Node root = new Node("root");
+    Node copy = copy().copyOf(root);
+    assertNotSame(root, copy);
+    assertSame(root.children, copy.children);
+  }
+
+  @Test(expected = HandlingException.class)
+  public void testNoDefaultConstructor() {
+    Holder holder = new Holder();
+    holder.value = new NoDefaultConstructor("value");
+    copy().deep().copyOf(holder);
+  }
+
+}
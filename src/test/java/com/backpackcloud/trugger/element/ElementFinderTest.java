@@ -19,18 +19,23 @@
 
 package com.backpackcloud.trugger.element;
 
+import com.backpackcloud.trugger.element.impl.TruggerElementFactory;
 import org.junit.Test;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.backpackcloud.trugger.element.Elements.element;
 import static com.backpackcloud.trugger.element.Elements.elements;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
 
 public class ElementFinderTest {
 
@@ -68,4 +73,39 @@ public class ElementFinderTest {
     assertTrue(elements().from(TestFinder.class).isEmpty());
   }
 
+  static class CountingFinder extends MyFinder {
+
+    private final Element element = mock(Element.class);
+    private final AtomicInteger tests = new AtomicInteger();
+
+    @Override
+    public boolean canFind(Class type) {
+      tests.incrementAndGet();
+      return super.canFind(type);
+    }
+
+    @Override
+    public Optional<Element> find(String name, Object target) {
+      return Optional.of(element);
+    }
+
+  }
+
+  @Test
+  public void testPriority() {
+    ElementFactory factory = new TruggerElementFactory();
+    CountingFinder first = new CountingFinder();
+    CountingFinder last = new CountingFinder();
+    factory.register(first);
+    factory.register(last);
+
+    for (int i = 0; i < 10; i++) {
+      assertSame(last.element, factory.createElementSelector("field").from(TestFinder.class).orElse(null));
+      assertSame(last.element, factory.createElementSelector("field").from(new TestFinder()).orElse(null));
+    }
+    // the finder is resolved only once for each class
+    assertEquals(1, last.tests.get());
+    assertEquals(0, first.tests.get());
+  }
+
 }
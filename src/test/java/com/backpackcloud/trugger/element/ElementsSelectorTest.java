@@ -24,9 +24,11 @@ import com.backpackcloud.trugger.element.impl.TruggerElementsSelector;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -80,4 +82,59 @@ public class ElementsSelectorTest implements ElementExpectations {
     verify(none).test(element);
   }
 
+  @Test
+  public void testLazyIndexedElements() {
+    List<Integer> list = new ArrayList<>(List.of(1, 2, 3));
+    List<Element> elements = Elements.elements().from(list);
+    assertEquals(3, elements.size());
+    list.add(4);
+    assertEquals(4, elements.size());
+    assertEquals(4, (int) elements.get(3).getValue());
+    assertEquals("3", elements.get(3).name());
+  }
+
+  @Test
+  public void testRange() {
+    List<Integer> list = new ArrayList<>();
+    for (int i = 0; i < 1_000_000; i++) {
+      list.add(i);
+    }
+    List<Element> elements = Elements.elements().range(10, 13).from(list);
+    assertEquals(3, elements.size());
+    assertEquals(10, (int) elements.get(0).getValue());
+    assertEquals(12, (int) elements.get(2).getValue());
+
+    int[] array = {1, 2, 3, 4};
+    assertEquals(2, Elements.elements().range(2, 100).from(array).size());
+    assertTrue(Elements.elements().range(10, 100).from(array).isEmpty());
+
+    List<Element> odd = Elements.elements()
+        .range(0, 4)
+        .filter(element -> element.<Integer>getValue() % 2 == 1)
+        .from(array);
+    assertEquals(2, odd.size());
+    assertEquals(3, (int) odd.get(1).getValue());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidRange() {
+    Elements.elements().range(2, 1);
+  }
+
+  @Test
+  public void testStream() {
+    assertEquals(1, selector.stream(this).count());
+    assertEquals(element, selector.filter(all).stream(this).findFirst().get());
+    assertFalse(selector.filter(none).stream(this).findAny().isPresent());
+
+    int[] array = {1, 2, 3, 4};
+    Optional<Element> even = Elements.elements()
+        .filter(el -> el.<Integer>getValue() % 2 == 0)
+        .stream(array)
+        .findFirst();
+    assertTrue(even.isPresent());
+    assertEquals(2, (int) even.get().getValue());
+    assertEquals(2, Elements.elements().range(1, 3).stream(array).count());
+  }
+
 }
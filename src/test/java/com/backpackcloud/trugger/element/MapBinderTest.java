@@ -0,0 +1,147 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element;
+
+import com.backpackcloud.trugger.HandlingException;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.backpackcloud.trugger.element.Elements.binder;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class MapBinderTest {
+
+  public enum Level {
+    BASIC, PREMIUM
+  }
+
+  public static class Customer {
+    private String name;
+    private int age;
+    private Level level;
+    private Address address;
+    private List<String> tags;
+    private Customer referrer;
+
+    static int instances;
+  }
+
+  public static class Address {
+    private String city;
+    private String zip;
+  }
+
+  private Customer customer() {
+    Customer customer = new Customer();
+    customer.name = "John";
+    customer.age = 30;
+    customer.level = Level.PREMIUM;
+    customer.address = new Address();
+    customer.address.city = "Sao Paulo";
+    customer.tags = List.of("a", "b");
+    return customer;
+  }
+
+  @Test
+  public void testToMap() {
+    Customer customer = customer();
+    Map<String, Object> map = binder().toMap(customer);
+
+    assertEquals(List.of("address", "age", "level", "name", "referrer", "tags"), List.copyOf(map.keySet()));
+    assertEquals("John", map.get("name"));
+    assertEquals(30, map.get("age"));
+    assertSame(customer.address, map.get("address"));
+    assertNull(map.get("referrer"));
+  }
+
+  @Test
+  public void testFromMap() {
+    Map<String, Object> map = new HashMap<>();
+    map.put("name", "John");
+    map.put("age", "30");
+    map.put("level", "BASIC");
+    map.put("unknown", "ignored");
+    map.put("address", Map.of("city", "Rio de Janeiro"));
+
+    Customer customer = binder().fromMap(map, Customer.class);
+    assertEquals("John", customer.name);
+    assertEquals(30, customer.age);
+    assertEquals(Level.BASIC, customer.level);
+    assertEquals("Rio de Janeiro", customer.address.city);
+  }
+
+  @Test
+  public void testRoundTrip() {
+    Customer customer = customer();
+    Customer copy = binder().fromMap(binder().toMap(customer), Customer.class);
+    assertEquals("John", copy.name);
+    assertEquals(Level.PREMIUM, copy.level);
+    assertSame(customer.address, copy.address);
+  }
+
+  @Test
+  public void testFlatten() {
+    Customer customer = customer();
+    customer.referrer = customer;
+    Map<String, Object> map = binder().flatten().toMap(customer);
+
+    assertEquals("Sao Paulo", map.get("address.city"));
+    assertNull(map.get("address.zip"));
+    assertEquals(List.of("a", "b"), map.get("tags"));
+    assertSame(customer, map.get("referrer"));
+  }
+
+  @Test
+  public void testUnflatten() {
+    Map<String, Object> map = new HashMap<>();
+    map.put("name", "John");
+    map.put("address.city", "Sao Paulo");
+    map.put("address.zip", "01000");
+    map.put("referrer.name", "Mary");
+    map.put("referrer.address.city", "Rio de Janeiro");
+
+    Customer customer = binder().flatten().fromMap(map, Customer.class);
+    assertEquals("Sao Paulo", customer.address.city);
+    assertEquals("01000", customer.address.zip);
+    assertEquals("Mary", customer.referrer.name);
+    assertEquals("Rio de Janeiro", customer.referrer.address.city);
+  }
+
+  @Test
+  public void testBindToExistingObject() {
+    Customer customer = customer();
+    Address address = customer.address;
+    binder().flatten().bind(Map.of("address.zip", "01000", "age", 31), customer);
+    assertSame(address, customer.address);
+    assertEquals("01000", address.zip);
+    assertEquals("Sao Paulo", address.city);
+    assertEquals(31, customer.age);
+  }
+
+  @Test(expected = HandlingException.class)
+  public void testInvalidValue() {
+    binder().fromMap(Map.of("age", "thirty"), Customer.class);
+  }
+
+}
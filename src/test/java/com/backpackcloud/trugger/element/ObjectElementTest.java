@@ -20,11 +20,24 @@
 package com.backpackcloud.trugger.element;
 
 import com.backpackcloud.trugger.HandlingException;
+import com.backpackcloud.trugger.ValueHandler;
 import org.junit.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import io.backpackcloud.kodo.Spec;
 import com.backpackcloud.trugger.Flag;
 
 import static io.backpackcloud.kodo.Expectation.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static com.backpackcloud.trugger.element.ElementPredicates.*;
 import static com.backpackcloud.trugger.element.Elements.element;
 
@@ -127,4 +140,296 @@ public class ObjectElementTest implements ElementExpectations {
         .expect(elementNamed("address"), to().be(ofType(String.class)));
   }
 
+  class AccessorTest {
+    private int count;
+    private long total;
+    private double ratio;
+    private boolean active;
+    private String name;
+    private int hits;
+    private long size;
+    private double weight;
+    private float scale;
+
+    public int getCount() {
+      return count;
+    }
+
+    public void setCount(int count) {
+      this.count = count;
+    }
+
+    public long getTotal() {
+      return total;
+    }
+
+    public void setTotal(long total) {
+      this.total = total;
+    }
+
+    public double getRatio() {
+      return ratio;
+    }
+
+    public void setRatio(double ratio) {
+      this.ratio = ratio;
+    }
+
+    public boolean isActive() {
+      return active;
+    }
+
+    public void setActive(boolean active) {
+      this.active = active;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public float getScale() {
+      return scale;
+    }
+
+    public void setScale(float scale) {
+      this.scale = scale;
+    }
+  }
+
+  @Test
+  public void testCompiledAccessors() {
+    AccessorTest object = new AccessorTest();
+    Element count = element("count").from(AccessorTest.class).get();
+    count.on(object).setInt(10);
+    Spec.given(count.on(object).getInt())
+        .expect(it(), to().be(10));
+    count.on(object).setValue(15);
+    Spec.given(count.on(object).<Integer>getValue())
+        .expect(it(), to().be(15));
+
+    Element total = element("total").from(AccessorTest.class).get();
+    total.on(object).setLong(20L);
+    Spec.given(total.on(object).getLong())
+        .expect(it(), to().be(20L));
+
+    Element ratio = element("ratio").from(AccessorTest.class).get();
+    ratio.on(object).setDouble(0.5);
+    Spec.given(ratio.on(object).getDouble())
+        .expect(it(), to().be(0.5));
+
+    Element active = element("active").from(AccessorTest.class).get();
+    active.on(object).setValue(true);
+    Spec.given(active.on(object).<Boolean>getValue())
+        .expect(it(), to().be(true));
+
+    Element name = element("name").from(AccessorTest.class).get();
+    name.on(object).setValue("trugger");
+    Spec.given(name.on(object).<String>getValue())
+        .expect(it(), to().be("trugger"));
+
+    Element hits = element("hits").from(AccessorTest.class).get();
+    hits.on(object).setInt(3);
+    Spec.given(hits.on(object).getInt())
+        .expect(it(), to().be(3));
+
+    Spec.given(element("class").from(object).get())
+        .expect(ValueHandler::getValue, to().be(AccessorTest.class));
+  }
+
+  @Test
+  public void testWidening() {
+    AccessorTest object = new AccessorTest();
+    for (String name : List.of("total", "size")) {
+      Element element = element(name).from(AccessorTest.class).get();
+      element.on(object).setValue(5);
+      element.on(object).setValue('a');
+      assertEquals(97L, element.on(object).getLong());
+      assertEquals(97.0, element.on(object).getDouble(), 0);
+      element.on(object).setInt(7);
+      assertEquals(7L, (long) element.on(object).getValue());
+    }
+    for (String name : List.of("ratio", "weight", "scale")) {
+      Element element = element(name).from(AccessorTest.class).get();
+      element.on(object).setValue(5);
+      assertEquals(5.0, element.on(object).getDouble(), 0);
+      element.on(object).setValue(6L);
+      assertEquals(6.0, element.on(object).getDouble(), 0);
+      element.on(object).setLong(8L);
+      assertEquals(8.0, element.on(object).getDouble(), 0);
+    }
+    for (String name : List.of("count", "hits")) {
+      Element element = element(name).from(AccessorTest.class).get();
+      element.on(object).setValue((short) 3);
+      assertEquals(3L, element.on(object).getLong());
+      assertEquals(3.0, element.on(object).getDouble(), 0);
+    }
+  }
+
+  @Test
+  public void testCompiledAccessorsExceptions() {
+    AccessorTest object = new AccessorTest();
+    Spec.given(element("name").from(AccessorTest.class).get())
+        .expect(element -> {
+          element.on(object).setValue(10);
+        }, to().raise(HandlingException.class))
+        .expect(element -> {
+          element.on(new Object()).getValue();
+        }, to().raise(HandlingException.class));
+    Spec.given(element("count").from(AccessorTest.class).get())
+        .expect(element -> {
+          element.on(object).setValue(null);
+        }, to().raise(HandlingException.class))
+        .expect(element -> {
+          element.on(object).setValue(10L);
+        }, to().raise(HandlingException.class));
+    Spec.given(element("hits").from(AccessorTest.class).get())
+        .expect(element -> {
+          element.on(object).setValue("10");
+        }, to().raise(HandlingException.class));
+  }
+
+  static class BaseEntity {
+    private long id;
+
+    public String getCode() {
+      return "base";
+    }
+
+    public void setId(long id) {
+      this.id = id;
+    }
+
+    public long getId() {
+      return id;
+    }
+  }
+
+  static class Entity extends BaseEntity {
+    @Flag
+    private String code;
+    private long id;
+    private String description;
+
+    public void setCode(String code) {
+      this.code = code;
+    }
+
+    public String getDescription() {
+      return description;
+    }
+
+    public void setDescription(Integer description) {
+    }
+  }
+
+  @Test
+  public void testIntrospection() {
+    Entity entity = new Entity();
+    Element code = element("code").from(Entity.class).get();
+    Spec.given(code)
+        .expect(it(), to().be(readable()))
+        .expect(it(), to().be(writable()))
+        .expect(it(), to().be(annotatedWith(Flag.class)))
+        .expect(Element::declaringClass, to().be(Entity.class));
+    Spec.given(code.on(entity).<String>getValue())
+        .expect(it(), to().be("base"));
+
+    Element id = element("id").from(Entity.class).get();
+    id.on(entity).setLong(10L);
+    Spec.given(id.on(entity).getLong())
+        .expect(it(), to().be(10L));
+    Spec.given(id)
+        .expect(Element::declaringClass, to().be(Entity.class));
+
+    Spec.given(element("description").from(Entity.class).get())
+        .expect(it(), to().be(readable()))
+        .expect(it(), to().be(writable()))
+        .expect(Element::type, to().be(String.class));
+  }
+
+  static class ConcurrentTestObject {
+    private String name;
+  }
+
+  @Test
+  public void testConcurrentLoading() throws Exception {
+    int threads = 64;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<Element>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return element("name").from(ConcurrentTestObject.class).get();
+        }));
+      }
+      start.countDown();
+      Element expected = futures.get(0).get();
+      for (Future<Element> future : futures) {
+        assertSame(expected, future.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testConvertedValue() {
+    TestObject object = new TestObject("name", "last name");
+    element("age").from(object).get().setConvertedValue("30");
+    assertEquals(30, object.getAge());
+    element("weight").from(object).get().setConvertedValue(70);
+    assertEquals(70.0, object.getWeight(), 0.0);
+  }
+
+  @Test(expected = HandlingException.class)
+  public void testInvalidConvertedValue() {
+    element("age").from(new TestObject("name", "last name")).get().setConvertedValue("thirty");
+  }
+
+  public static class IsolatedBean {
+    private String name;
+    private int count;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    public void setCount(int count) {
+      this.count = count;
+    }
+  }
+
+  @Test
+  public void testBeanFromOtherClassLoader() throws Exception {
+    URL classes = IsolatedBean.class.getProtectionDomain().getCodeSource().getLocation();
+    try (URLClassLoader loader = new URLClassLoader(new URL[]{classes}, ClassLoader.getPlatformClassLoader())) {
+      Class<?> type = loader.loadClass(IsolatedBean.class.getName());
+      assertNotSame(IsolatedBean.class, type);
+      Object bean = type.getConstructor().newInstance();
+
+      Element name = element("name").from(type).get();
+      Element count = element("count").from(type).get();
+      name.on(bean).setValue("bean");
+      count.on(bean).setInt(10);
+      assertEquals("bean", name.on(bean).getValue());
+      assertEquals(10, count.on(bean).getInt());
+      assertEquals(10L, count.on(bean).getLong());
+      assertEquals(10, (int) count.on(bean).getValue());
+    }
+  }
+
 }
@@ -0,0 +1,140 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element;
+
+import com.backpackcloud.trugger.HandlingException;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class PropertyPathTest {
+
+  public static class Order {
+    private Customer customer;
+    private Map<String, Object> attributes = new HashMap<>();
+
+    public Customer getCustomer() {
+      return customer;
+    }
+
+    public void setCustomer(Customer customer) {
+      this.customer = customer;
+    }
+  }
+
+  public static class Customer {
+    private String name;
+    private Address address;
+  }
+
+  public static class Address {
+    private String city;
+  }
+
+  public static class SpecialCustomer extends Customer {
+    private int level;
+  }
+
+  private Order order() {
+    Order order = new Order();
+    order.customer = new Customer();
+    order.customer.name = "John";
+    order.customer.address = new Address();
+    order.customer.address.city = "Sao Paulo";
+    return order;
+  }
+
+  @Test
+  public void testParsing() {
+    PropertyPath path = Elements.path("customer.address.city");
+    assertEquals("customer.address.city", path.path());
+    assertEquals(List.of("customer", "address", "city"), path.names());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptySegment() {
+    Elements.path("customer..city");
+  }
+
+  @Test
+  public void testGet() {
+    PropertyPath path = Elements.path("customer.address.city");
+    assertEquals("Sao Paulo", path.get(order()));
+    assertEquals("John", Elements.path("customer.name").get(order()));
+  }
+
+  @Test
+  public void testNullSafeGet() {
+    PropertyPath path = Elements.path("customer.address.city");
+    Order order = order();
+    order.customer.address = null;
+    assertNull(path.get(order));
+    assertNull(path.get(null));
+  }
+
+  @Test
+  public void testSet() {
+    PropertyPath path = Elements.path("customer.address.city");
+    Order order = order();
+    path.set(order, "Rio de Janeiro");
+    assertEquals("Rio de Janeiro", order.customer.address.city);
+  }
+
+  @Test(expected = HandlingException.class)
+  public void testSetWithNullIntermediate() {
+    Order order = order();
+    order.customer.address = null;
+    Elements.path("customer.address.city").set(order, "Rio de Janeiro");
+  }
+
+  @Test(expected = HandlingException.class)
+  public void testMissingElement() {
+    Elements.path("customer.email").get(order());
+  }
+
+  @Test
+  public void testPolymorphicTargets() {
+    PropertyPath path = Elements.path("customer.name");
+    Order order = order();
+    Order other = new Order();
+    SpecialCustomer customer = new SpecialCustomer();
+    ((Customer) customer).name = "Mary";
+    other.customer = customer;
+    for (int i = 0; i < 3; i++) {
+      assertEquals("John", path.get(order));
+      assertEquals("Mary", path.get(other));
+    }
+  }
+
+  @Test
+  public void testNonObjectTargets() {
+    Order order = order();
+    order.attributes.put("channel", "web");
+    PropertyPath path = Elements.path("attributes.channel");
+    assertEquals("web", path.get(order));
+    path.set(order, "mobile");
+    assertEquals("mobile", order.attributes.get("channel"));
+  }
+
+}
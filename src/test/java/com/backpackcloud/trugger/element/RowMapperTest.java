@@ -0,0 +1,122 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.element;
+
+import com.backpackcloud.trugger.HandlingException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.backpackcloud.trugger.element.Elements.rowMapper;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class RowMapperTest {
+
+  public enum Status {
+    ACTIVE, INACTIVE
+  }
+
+  public static class Account {
+    private long id;
+    private String ownerName;
+    private int version;
+    private Double rate;
+    private BigDecimal balance;
+    private Status status;
+  }
+
+  private ResultSet resultSet;
+  private ResultSetMetaData metaData;
+
+  @Before
+  public void initialize() throws SQLException {
+    resultSet = mock(ResultSet.class);
+    metaData = mock(ResultSetMetaData.class);
+    when(resultSet.getMetaData()).thenReturn(metaData);
+    when(metaData.getColumnCount()).thenReturn(7);
+    when(metaData.getColumnLabel(1)).thenReturn("ID");
+    when(metaData.getColumnLabel(2)).thenReturn("OWNER_NAME");
+    when(metaData.getColumnLabel(3)).thenReturn("version");
+    when(metaData.getColumnLabel(4)).thenReturn("rate");
+    when(metaData.getColumnLabel(5)).thenReturn("balance");
+    when(metaData.getColumnLabel(6)).thenReturn("status");
+    when(metaData.getColumnLabel(7)).thenReturn("unknown");
+
+    when(resultSet.next()).thenReturn(true, true, false);
+    when(resultSet.getLong(1)).thenReturn(1L, 2L);
+    when(resultSet.getString(2)).thenReturn("John", "Mary");
+    when(resultSet.getInt(3)).thenReturn(3, 0);
+    when(resultSet.getDouble(4)).thenReturn(1.5, 0.0);
+    when(resultSet.wasNull()).thenReturn(false, false, false, false, false, true);
+    when(resultSet.getBigDecimal(5)).thenReturn(BigDecimal.TEN, BigDecimal.ONE);
+    when(resultSet.getObject(6)).thenReturn("ACTIVE", "INACTIVE");
+  }
+
+  @Test
+  public void testStream() throws SQLException {
+    List<Account> accounts = rowMapper(Account.class).stream(resultSet).collect(Collectors.toList());
+
+    assertEquals(2, accounts.size());
+    Account first = accounts.get(0);
+    assertEquals(1L, first.id);
+    assertEquals("John", first.ownerName);
+    assertEquals(3, first.version);
+    assertEquals(Double.valueOf(1.5), first.rate);
+    assertEquals(BigDecimal.TEN, first.balance);
+    assertEquals(Status.ACTIVE, first.status);
+
+    Account second = accounts.get(1);
+    assertEquals(2L, second.id);
+    assertEquals("Mary", second.ownerName);
+    assertEquals(0, second.version);
+    assertNull(second.rate);
+    assertEquals(Status.INACTIVE, second.status);
+
+    verify(resultSet, times(1)).getMetaData();
+    verify(resultSet, times(0)).getObject(7);
+  }
+
+  @Test
+  public void testMap() throws SQLException {
+    RowMapper<Account> mapper = rowMapper(Account.class);
+    resultSet.next();
+    assertEquals("John", mapper.map(resultSet).ownerName);
+    resultSet.next();
+    assertEquals("Mary", mapper.map(resultSet).ownerName);
+    verify(resultSet, times(1)).getMetaData();
+  }
+
+  @Test(expected = HandlingException.class)
+  public void testErrors() throws SQLException {
+    when(resultSet.getString(2)).thenThrow(new SQLException());
+    rowMapper(Account.class).stream(resultSet).count();
+  }
+
+}
@@ -76,4 +76,10 @@ public class ConstructorsSelectorTest {
     );
   }
 
+  @Test
+  public void testStream() {
+    assertEquals(2, Reflection.reflect().constructors().stream(TestObject.class).count());
+    assertEquals(1, Reflection.reflect().visible().constructors().stream(TestObject.class).count());
+  }
+
 }
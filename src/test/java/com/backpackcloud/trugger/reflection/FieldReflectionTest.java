@@ -18,6 +18,7 @@
  */
 package com.backpackcloud.trugger.reflection;
 
+import com.backpackcloud.trugger.HandlingException;
 import org.junit.Before;
 import org.junit.Test;
 import com.backpackcloud.trugger.Flag;
@@ -49,11 +50,17 @@ public class FieldReflectionTest {
   private int y;
   private Integer z;
 
+  private long count;
+  private double ratio;
+  private final String constant = "constant";
+  private static int staticValue;
+
   @Before
   public void initialize() {
     a = null;
     b = null;
     c = null;
+    staticValue = 0;
   }
 
   @Test
@@ -123,4 +130,46 @@ public class FieldReflectionTest {
     );
   }
 
+  private FieldHandler handlerFor(String name) {
+    return Reflection.handle(Reflection.reflect().field(name).from(this).map(ReflectedField::unwrap).get());
+  }
+
+  @Test
+  public void testPrimitiveHandler() {
+    handlerFor("x").on(this).setInt(10);
+    assertEquals(10, this.x);
+    assertEquals(10, handlerFor("x").on(this).getInt());
+    assertEquals(10, (int) handlerFor("x").on(this).getValue());
+
+    handlerFor("count").on(this).setLong(20L);
+    assertEquals(20L, this.count);
+    assertEquals(20L, handlerFor("count").on(this).getLong());
+
+    handlerFor("ratio").on(this).setDouble(0.5);
+    assertEquals(0.5, this.ratio, 0);
+    assertEquals(0.5, handlerFor("ratio").on(this).getDouble(), 0);
+
+    handlerFor("z").on(this).setInt(30);
+    assertEquals(Integer.valueOf(30), this.z);
+    assertEquals(30, handlerFor("z").on(this).getInt());
+  }
+
+  @Test
+  public void testStaticHandler() {
+    handlerFor("staticValue").setInt(5);
+    assertEquals(5, staticValue);
+    assertEquals(5, (int) handlerFor("staticValue").getValue());
+    assertEquals(5, handlerFor("staticValue").on(FieldReflectionTest.class).getInt());
+  }
+
+  @Test
+  public void testFinalFieldHandler() {
+    assertEquals("constant", handlerFor("constant").on(this).getValue());
+  }
+
+  @Test(expected = HandlingException.class)
+  public void testPrimitiveHandlerTypeMismatch() {
+    handlerFor("a").on(this).getLong();
+  }
+
 }
@@ -85,4 +85,26 @@ public class FieldsSelectorTest {
     );
   }
 
+  @Test
+  public void testStream() {
+    assertEquals(3, Reflection.reflect().fields().stream(TestObject.class).count());
+    assertFalse(Reflection.reflect().fields().stream(ExtendedClassTest.class).findAny().isPresent());
+    assertEquals("i", Reflection.reflect().fields()
+        .deep()
+        .stream(ExtendedClassTest.class)
+        .findFirst()
+        .map(ReflectedField::getName)
+        .orElse(null));
+  }
+
+  @Test
+  public void testPreparedSelector() {
+    FieldsSelector selector = Reflection.reflect().fields().deep().prepare();
+    ExtendedClassTest target = new ExtendedClassTest();
+    target.i = 10;
+    assertEquals(1, selector.from(target).size());
+    assertEquals(10, (int) selector.from(target).get(0).getValue());
+    assertTrue(selector.from(new BaseClassTest()).size() > 0);
+  }
+
 }
@@ -49,6 +49,34 @@ public class GenericTypeTest {
     assertEquals(Boolean.class, Reflection.reflect().genericType("V").of(TestObject.class));
   }
 
+  static class Parent<P> {
+  }
+
+  static class Child extends Parent<Integer> {
+  }
+
+  static class GrandChild extends Child {
+  }
+
+  @Test
+  public void inheritedGenericTypeTest() {
+    for (int i = 0; i < 3; i++) {
+      assertEquals(Integer.class, Reflection.reflect().genericType("P").of(GrandChild.class));
+      assertEquals(Integer.class, Reflection.reflect().genericTypeOf(new Child()));
+      assertEquals(Object.class, Reflection.reflect().genericType("X").of(Child.class));
+    }
+  }
+
+  @Test(expected = ReflectionException.class)
+  public void noGenericTypeTest() {
+    Reflection.reflect().genericTypeOf(Object.class);
+  }
+
+  @Test(expected = ReflectionException.class)
+  public void moreThanOneGenericTypeTest() {
+    Reflection.reflect().genericTypeOf(TestObject.class);
+  }
+
   @Test
   public void bridgedMethodTest() {
     MethodSelector method = Reflection.reflect().method("doIt");
@@ -73,6 +101,9 @@ public class GenericTypeTest {
     assertTrue(bridgeMethod.isBridge());
 
     assertEquals(bridgedMethod, Reflection.reflect().bridgedMethodFor(bridgeMethod).get());
+    assertSame(Reflection.reflect().bridgedMethodFor(bridgeMethod),
+        Reflection.reflect().bridgedMethodFor(bridgeMethod));
+    assertEquals(bridgedMethod, Reflection.reflect().bridgedMethodFor(bridgedMethod).get());
   }
 
   @Test
@@ -0,0 +1,128 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.reflection;
+
+import com.backpackcloud.trugger.Flag;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static com.backpackcloud.trugger.reflection.MethodPredicates.annotatedWith;
+import static com.backpackcloud.trugger.reflection.MethodPredicates.getter;
+import static com.backpackcloud.trugger.reflection.MethodPredicates.getterOf;
+import static com.backpackcloud.trugger.reflection.MethodPredicates.returning;
+import static com.backpackcloud.trugger.reflection.MethodPredicates.setterOf;
+import static com.backpackcloud.trugger.reflection.MethodPredicates.withParameters;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IndexedPredicateTest {
+
+  static class Parent {
+    @Flag
+    private String name;
+
+    public boolean isActive() {
+      return true;
+    }
+
+    @Flag
+    public String getName() {
+      return name;
+    }
+  }
+
+  static class TestObject extends Parent {
+    @Flag
+    private int count;
+
+    public int getCount() {
+      return count;
+    }
+
+    public void setCount(int count) {
+      this.count = count;
+    }
+
+    public String count(int times) {
+      return null;
+    }
+
+    @Flag
+    public void doIt() {
+    }
+  }
+
+  @Test
+  public void testIndexKeys() {
+    Predicate<Method> predicate = getterOf("count").and(returning(int.class));
+    assertTrue(predicate instanceof IndexedPredicate);
+    Set<String> names = ((IndexedPredicate<Method>) predicate).indexKey().names().get();
+    assertTrue(names.contains("getCount"));
+    assertTrue(names.contains("isCount"));
+
+    IndexKey key = ((IndexedPredicate<Method>) getter().and(annotatedWith(Flag.class))).indexKey();
+    assertEquals(Flag.class, key.annotationType().get());
+    assertFalse(key.arity().isPresent());
+  }
+
+  @Test
+  public void testIndexedSelection() {
+    assertSelection(getterOf("count"), "getCount");
+    assertSelection(getterOf("active"), "isActive");
+    assertSelection(getterOf("name"), "getName");
+    assertSelection(setterOf("count"), "setCount");
+    assertSelection(getterOf("count").or(setterOf("count")), "getCount", "setCount");
+    assertSelection(annotatedWith(Flag.class), "doIt", "getName");
+    assertSelection(withParameters(int.class), "count", "setCount");
+    assertSelection(getterOf("none"));
+
+    assertEquals(List.of("count"),
+        Reflection.reflect().fields().deep()
+            .filter(FieldPredicates.annotatedWith(Flag.class).and(FieldPredicates.ofType(int.class)))
+            .from(TestObject.class).stream()
+            .map(ReflectedField::getName)
+            .collect(Collectors.toList()));
+
+    assertEquals("count", Reflection.reflect().method("count")
+        .filter(method -> method.getReturnType() == String.class)
+        .from(TestObject.class)
+        .map(ReflectedMethod::getName)
+        .orElse(null));
+  }
+
+  private void assertSelection(Predicate<? super Method> predicate, String... expected) {
+    Set<String> indexed = names(Reflection.reflect().methods().deep().filter(predicate));
+    Set<String> scanned = names(Reflection.reflect().methods().deep().filter(predicate::test));
+    assertEquals(Set.of(expected), indexed);
+    assertEquals(scanned, indexed);
+  }
+
+  private Set<String> names(MethodsSelector selector) {
+    return selector.from(TestObject.class).stream()
+        .map(ReflectedMethod::getName)
+        .collect(Collectors.toSet());
+  }
+
+}
@@ -26,6 +26,8 @@ import com.backpackcloud.trugger.reflection.impl.VisibleMemberFindersRegistry;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 /** @author Marcelo Guimaraes */
 public class MemberFindersRegistryTest {
@@ -63,6 +65,14 @@ public class MemberFindersRegistryTest {
 
   }
 
+  interface Constants {
+    int CONSTANT = 1;
+  }
+
+  static class ConstantsImpl implements Constants {
+
+  }
+
   private MemberFindersRegistry declared = new DeclaredMemberFindersRegistry();
   private MemberFindersRegistry visible = new VisibleMemberFindersRegistry();
 
@@ -79,19 +89,19 @@ public class MemberFindersRegistryTest {
     assertNotNull(visible.fieldFinder("publicField").find(TestClass.class));
   }
 
-  @Test(expected = NoSuchFieldException.class)
+  @Test
   public void testPrivateFieldOnVisibleFinder() throws Exception {
-    visible.fieldFinder("privateField").find(TestClass.class);
+    assertNull(visible.fieldFinder("privateField").find(TestClass.class));
   }
 
-  @Test(expected = NoSuchFieldException.class)
+  @Test
   public void testProtectedFieldOnVisibleFinder() throws Exception {
-    visible.fieldFinder("protectedField").find(TestClass.class);
+    assertNull(visible.fieldFinder("protectedField").find(TestClass.class));
   }
 
-  @Test(expected = NoSuchFieldException.class)
+  @Test
   public void testPackageFieldOnVisibleFinder() throws Exception {
-    visible.fieldFinder("packageField").find(TestClass.class);
+    assertNull(visible.fieldFinder("packageField").find(TestClass.class));
   }
 
   @Test
@@ -107,19 +117,19 @@ public class MemberFindersRegistryTest {
     assertNotNull(declared.constructorFinder(boolean.class).find(TestClass.class));
   }
 
-  @Test(expected = NoSuchMethodException.class)
+  @Test
   public void testPrivateConstructorOnVisibleFinder() throws Exception {
-    visible.constructorFinder(int.class).find(TestClass.class);
+    assertNull(visible.constructorFinder(int.class).find(TestClass.class));
   }
 
-  @Test(expected = NoSuchMethodException.class)
+  @Test
   public void testProtectedConstructorOnVisibleFinder() throws Exception {
-    visible.constructorFinder(String.class).find(TestClass.class);
+    assertNull(visible.constructorFinder(String.class).find(TestClass.class));
   }
 
-  @Test(expected = NoSuchMethodException.class)
+  @Test
   public void testPackageConstructorOnVisibleFinder() throws Exception {
-    visible.constructorFinder(boolean.class).find(TestClass.class);
+    assertNull(visible.constructorFinder(boolean.class).find(TestClass.class));
   }
 
   @Test
@@ -147,19 +157,52 @@ public class MemberFindersRegistryTest {
     assertNotNull(declared.methodFinder("foo", boolean.class).find(TestClass.class));
   }
 
-  @Test(expected = NoSuchMethodException.class)
+  @Test
   public void testPrivateMethodOnVisibleFinder() throws Exception {
-    visible.methodFinder("foo", int.class).find(TestClass.class);
+    assertNull(visible.methodFinder("foo", int.class).find(TestClass.class));
   }
 
-  @Test(expected = NoSuchMethodException.class)
+  @Test
   public void testProtectedMethodOnVisibleFinder() throws Exception {
-    visible.methodFinder("foo", String.class).find(TestClass.class);
+    assertNull(visible.methodFinder("foo", String.class).find(TestClass.class));
   }
 
-  @Test(expected = NoSuchMethodException.class)
+  @Test
   public void testPackageMethodOnVisibleFinder() throws Exception {
-    visible.methodFinder("foo", boolean.class).find(TestClass.class);
+    assertNull(visible.methodFinder("foo", boolean.class).find(TestClass.class));
+  }
+
+  @Test
+  public void testMissingMembers() throws Exception {
+    assertNull(declared.fieldFinder("nonExistingField").find(TestClass.class));
+    assertNull(declared.methodFinder("foo", long.class).find(TestClass.class));
+    assertNull(declared.constructorFinder(long.class).find(TestClass.class));
+    assertNull(visible.methodFinder("nonExistingMethod").find(TestClass.class));
+    assertNull(visible.constructorFinder(long.class).find(TestClass.class));
+  }
+
+  @Test
+  public void testInheritedMembers() throws Exception {
+    assertNotNull(visible.methodFinder("toString").find(TestClass.class));
+    assertNotNull(visible.methodFinder("equals", Object.class).find(TestClass.class));
+    assertNull(declared.methodFinder("toString").find(TestClass.class));
+    assertNotNull(visible.fieldFinder("CONSTANT").find(ConstantsImpl.class));
+    assertNull(declared.fieldFinder("CONSTANT").find(ConstantsImpl.class));
+  }
+
+  @Test
+  public void testCachedMembers() {
+    assertSame(declared.fieldsFinder().find(TestClass.class),
+        declared.fieldsFinder().find(TestClass.class));
+    assertSame(visible.methodsFinder().find(TestClass.class),
+        visible.methodsFinder().find(TestClass.class));
+    assertSame(declared.constructorsFinder().find(TestClass.class),
+        declared.constructorsFinder().find(TestClass.class));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testImmutableMembers() {
+    declared.methodsFinder().find(TestClass.class).clear();
   }
 
 }
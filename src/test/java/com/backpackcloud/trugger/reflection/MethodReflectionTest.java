@@ -50,6 +50,18 @@ public class MethodReflectionTest {
 
   }
 
+  static class Calculator {
+
+    private int sum(int a, int b) {
+      return a + b;
+    }
+
+    static String concat(String... values) {
+      return String.join("", values);
+    }
+
+  }
+
   @Test
   public void invokerTest() {
     TestInterface obj = mock(TestInterface.class);
@@ -108,4 +120,25 @@ public class MethodReflectionTest {
     );
   }
 
+  @Test
+  public void primitiveInvocationTest() {
+    Method method = Reflection.reflect().method("sum").from(Calculator.class).map(ReflectedMethod::unwrap).get();
+    int result = Reflection.invoke(method).on(new Calculator()).withArgs(2, 3);
+    assertEquals(5, result);
+  }
+
+  @Test
+  public void staticInvocationTest() {
+    Method method = Reflection.reflect().method("concat").from(Calculator.class).map(ReflectedMethod::unwrap).get();
+    Object[] args = {new String[]{"a", "b"}};
+    assertEquals("ab", Reflection.invoke(method).withArgs(args));
+    assertEquals("ab", Reflection.invoke(method).on(new Calculator()).withArgs(args));
+  }
+
+  @Test(expected = ReflectionException.class)
+  public void invokerArgumentsMismatchTest() {
+    Method method = Reflection.reflect().method("sum").from(Calculator.class).map(ReflectedMethod::unwrap).get();
+    Reflection.invoke(method).on(new Calculator()).withArgs(1);
+  }
+
 }
@@ -21,7 +21,13 @@ package com.backpackcloud.trugger.reflection;
 import org.junit.Test;
 import com.backpackcloud.trugger.Flag;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Marcelo Guimaraes
@@ -57,4 +63,45 @@ public class MethodsSelectorTest {
     );
   }
 
+  @Test
+  public void testStream() {
+    AtomicInteger tested = new AtomicInteger();
+    Optional<ReflectedMethod> method = Reflection.reflect().methods()
+        .deep()
+        .filter(m -> tested.incrementAndGet() > 0 && m.getName().equals("foo"))
+        .stream(TestObject.class)
+        .findFirst();
+    assertTrue(method.isPresent());
+    assertEquals("foo", method.get().getName());
+    // the search stops before reaching the methods of Object
+    assertTrue(tested.get() <= 2);
+
+    assertEquals(
+        Reflection.reflect().methods().deep().from(TestObject.class).size(),
+        Reflection.reflect().methods().deep().stream(TestObject.class).count()
+    );
+  }
+
+  @Test
+  public void testPreparedSelector() {
+    AtomicInteger tested = new AtomicInteger();
+    MethodsSelector selector = Reflection.reflect().methods()
+        .filter(m -> tested.incrementAndGet() > 0 && m.getName().equals("foo"))
+        .prepare();
+
+    TestObject first = new TestObject();
+    TestObject second = new TestObject();
+    List<ReflectedMethod> methods = selector.from(first);
+    int count = tested.get();
+    assertEquals(1, methods.size());
+    assertSame(first, methods.get(0).target());
+
+    methods = selector.from(second);
+    assertEquals(1, methods.size());
+    assertSame(second, methods.get(0).target());
+    assertEquals(1, selector.stream(TestObject.class).count());
+    // the selection is computed only once for the class
+    assertEquals(count, tested.get());
+  }
+
 }
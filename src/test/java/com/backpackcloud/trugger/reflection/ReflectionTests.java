@@ -18,8 +18,10 @@
  */
 package com.backpackcloud.trugger.reflection;
 
+import com.backpackcloud.trugger.reflection.impl.ClassMembers;
 import com.backpackcloud.trugger.reflection.impl.TruggerFieldsSelector;
 import com.backpackcloud.trugger.util.ClassIterator;
+import com.backpackcloud.trugger.util.cache.Caches;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -35,6 +37,8 @@ import java.util.NoSuchElementException;
 import static com.backpackcloud.trugger.TruggerTest.assertThrow;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -146,6 +150,37 @@ public class ReflectionTests {
     assertEquals(1, interfaces.size());
   }
 
+  interface First {
+  }
+
+  interface Second extends First {
+  }
+
+  interface Third {
+  }
+
+  static class Parent implements Third, First {
+  }
+
+  static class Child extends Parent implements Second {
+  }
+
+  @Test
+  public void testInterfacesOrder() {
+    List<Class> interfaces = Reflection.reflect().interfacesOf(Child.class);
+    assertEquals(List.of(Second.class, First.class, Third.class), interfaces);
+    assertSame(interfaces, Reflection.reflect().interfacesOf(new Child()));
+    assertEquals(List.of(First.class), Reflection.reflect().interfacesOf(Second.class));
+  }
+
+  @Test
+  public void testCachedHierarchy() {
+    List<Class> hierarchy = Reflection.hierarchyOf(Child.class);
+    assertEquals(List.of(Child.class, Parent.class, Object.class), hierarchy);
+    assertSame(hierarchy, Reflection.hierarchyOf(new Child()));
+    assertThrow(UnsupportedOperationException.class, () -> hierarchy.add(Object.class));
+  }
+
   @Test
   public void testHierarchy() {
     Iterable<Class> iterable = Reflection.hierarchyOf(IllegalArgumentException.class);
@@ -209,4 +244,39 @@ public class ReflectionTests {
     verify(method, times(1)).invoke(args);
   }
 
+  @Test
+  public void testSharedReflectors() {
+    assertSame(Reflection.reflect(), Reflection.reflect());
+    assertSame(Reflection.reflect().visible(), Reflection.reflect().visible());
+    assertSame(Reflection.reflect(), Reflection.reflect().visible().declared());
+  }
+
+  @Test
+  public void testMembersInvalidation() {
+    ClassMembers members = ClassMembers.of(DeclaredTest.class);
+    assertSame(members, ClassMembers.of(DeclaredTest.class));
+    Caches.invalidate(DeclaredTest.class.getClassLoader());
+    assertNotSame(members, ClassMembers.of(DeclaredTest.class));
+  }
+
+  @Test
+  public void testMemberLookups() throws Exception {
+    ClassMembers members = ClassMembers.of(StringBuilder.class);
+    assertEquals(StringBuilder.class.getMethod("append", String.class),
+        members.method("append", String.class).get());
+    assertEquals(StringBuilder.class.getDeclaredMethod("append", String.class),
+        members.declaredMethod("append", String.class).get());
+    assertEquals(StringBuilder.class.getConstructor(String.class),
+        members.constructor(String.class).get());
+    assertFalse(members.method("append", Thread.class).isPresent());
+    assertFalse(members.method("missing").isPresent());
+    assertFalse(members.declaredField("missing").isPresent());
+    assertFalse(members.constructor(Thread.class).isPresent());
+
+    ClassMembers integers = ClassMembers.of(Integer.class);
+    assertEquals(Integer.class.getField("MAX_VALUE"), integers.field("MAX_VALUE").get());
+    assertEquals(Integer.class.getDeclaredField("value"), integers.declaredField("value").get());
+    assertFalse(integers.field("value").isPresent());
+  }
+
 }
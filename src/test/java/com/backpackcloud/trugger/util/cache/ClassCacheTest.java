@@ -0,0 +1,178 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.util.cache;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+public class ClassCacheTest {
+
+  private final Map<Class<?>, AtomicInteger> loads = new ConcurrentHashMap<>();
+
+  private String load(Class<?> type) {
+    loads.computeIfAbsent(type, t -> new AtomicInteger()).incrementAndGet();
+    return type.getSimpleName();
+  }
+
+  private int loads(Class<?> type) {
+    return loads.getOrDefault(type, new AtomicInteger()).get();
+  }
+
+  @Test
+  public void testLoadOnce() {
+    ClassCache<String> cache = CachePolicy.unbounded().newCache(this::load);
+    assertEquals("String", cache.get(String.class));
+    assertEquals("String", cache.get(String.class));
+    assertEquals(1, loads(String.class));
+  }
+
+  @Test
+  public void testInvalidateClass() {
+    ClassCache<String> cache = CachePolicy.unbounded().newCache(this::load);
+    cache.get(String.class);
+    cache.get(Integer.class);
+    cache.invalidate(String.class);
+    cache.get(String.class);
+    cache.get(Integer.class);
+    assertEquals(2, loads(String.class));
+    assertEquals(1, loads(Integer.class));
+  }
+
+  @Test
+  public void testInvalidateClassLoader() {
+    ClassCache<String> cache = CachePolicy.unbounded().newCache(this::load);
+    cache.get(String.class);
+    cache.get(ClassCacheTest.class);
+    cache.invalidate(ClassCacheTest.class.getClassLoader());
+    cache.get(String.class);
+    cache.get(ClassCacheTest.class);
+    assertEquals(1, loads(String.class));
+    assertEquals(2, loads(ClassCacheTest.class));
+  }
+
+  @Test
+  public void testInvalidateAll() {
+    ClassCache<String> cache = CachePolicy.unbounded().newCache(this::load);
+    cache.get(String.class);
+    cache.invalidateAll();
+    cache.get(String.class);
+    assertEquals(2, loads(String.class));
+  }
+
+  @Test
+  public void testBoundedCache() {
+    ClassCache<String> cache = CachePolicy.bounded(2).newCache(this::load);
+    cache.get(String.class);
+    cache.get(Integer.class);
+    cache.get(Long.class);
+    // String was the least recently used
+    cache.get(String.class);
+    assertEquals(2, loads(String.class));
+    assertEquals(1, loads(Long.class));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidSize() {
+    CachePolicy.bounded(0);
+  }
+
+  @Test
+  public void testPolicyChange() {
+    ClassCache<String> cache = Caches.newCache(this::load);
+    try {
+      cache.get(String.class);
+      Caches.setPolicy(CachePolicy.bounded(1));
+      cache.get(String.class);
+      cache.get(Integer.class);
+      cache.get(String.class);
+      assertEquals(3, loads(String.class));
+    } finally {
+      Caches.setPolicy(CachePolicy.unbounded());
+    }
+    Caches.invalidate(Integer.class);
+    cache.get(Integer.class);
+    assertEquals(2, loads(Integer.class));
+  }
+
+  @Test
+  public void testInvalidateElementCaches() {
+    Map<Class<?>, AtomicInteger> elementLoads = new ConcurrentHashMap<>();
+    ClassCache<String> cache = Caches.newCache(this::load);
+    ClassCache<String> elementCache = Caches.newElementCache(type -> {
+      elementLoads.computeIfAbsent(type, t -> new AtomicInteger()).incrementAndGet();
+      return type.getSimpleName();
+    });
+    cache.get(String.class);
+    elementCache.get(String.class);
+    int generation = Caches.generation();
+    Caches.invalidateElementCaches();
+    cache.get(String.class);
+    elementCache.get(String.class);
+    assertEquals(1, loads(String.class));
+    assertEquals(2, elementLoads.get(String.class).get());
+    assertNotEquals(generation, Caches.generation());
+  }
+
+  @Test
+  public void testConcurrentLoad() throws Exception {
+    ClassCache<String> cache = CachePolicy.unbounded().newCache(type -> {
+      String value = load(type);
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return value;
+    });
+    int threads = 16;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<String>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return cache.get(ClassCacheTest.class);
+        }));
+      }
+      start.countDown();
+      String expected = futures.get(0).get();
+      for (Future<String> future : futures) {
+        assertSame(expected, future.get());
+      }
+      assertEquals(1, loads(ClassCacheTest.class));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+}
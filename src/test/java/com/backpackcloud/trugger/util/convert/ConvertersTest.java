@@ -0,0 +1,190 @@
+/*
+ * The Apache License
+ *
+ * Copyright 2009 Marcelo Guimaraes <ataxexe@backpackcloud.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *          http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.backpackcloud.trugger.util.convert;
+
+import com.backpackcloud.trugger.HandlingException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Date;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ConvertersTest {
+
+  public enum Color {
+    RED, GREEN
+  }
+
+  public static class Money {
+    private final BigDecimal amount;
+
+    Money(BigDecimal amount) {
+      this.amount = amount;
+    }
+  }
+
+  @Test
+  public void testIdentity() {
+    assertTrue(Converters.isIdentity(Converters.converter(Integer.class, Number.class).get()));
+    assertTrue(Converters.isIdentity(Converters.converter(int.class, Integer.class).get()));
+    assertTrue(Converters.isIdentity(Converters.converter(String.class, Object.class).get()));
+    String value = "value";
+    assertSame(value, Converters.convert(value, CharSequence.class));
+    assertNull(Converters.convert(null, int.class));
+  }
+
+  @Test
+  public void testNumbers() {
+    assertEquals(Integer.valueOf(10), Converters.convert(10L, int.class));
+    assertEquals(Long.valueOf(10), Converters.convert(10, Long.class));
+    assertEquals(Double.valueOf(1.5), Converters.convert(1.5f, double.class));
+    assertEquals(Integer.valueOf(2), Converters.convert(new BigDecimal("2.00"), Integer.class));
+    assertEquals(BigInteger.TEN, Converters.convert(10, BigInteger.class));
+    assertEquals(new BigDecimal("1.5"), Converters.convert(1.5, BigDecimal.class));
+    assertEquals(Short.valueOf((short) 3), Converters.convert(3L, short.class));
+  }
+
+  @Test(expected = HandlingException.class)
+  public void testNumberOverflow() {
+    Converters.convert(Long.MAX_VALUE, int.class);
+  }
+
+  @Test
+  public void testFloatingPoints() {
+    assertEquals(Double.valueOf(9.223372036854776E18), Converters.convert(Long.MAX_VALUE, Double.class));
+    assertEquals(Float.valueOf(0.1f), Converters.convert(new BigDecimal("0.1"), float.class));
+    assertEquals(Float.valueOf(Float.POSITIVE_INFINITY),
+        Converters.convert(Double.POSITIVE_INFINITY, Float.class));
+  }
+
+  @Test(expected = HandlingException.class)
+  public void testFloatingPointOverflow() {
+    Converters.convert(Double.MAX_VALUE, float.class);
+  }
+
+  @Test(expected = HandlingException.class)
+  public void testNumberFraction() {
+    Converters.convert(1.5, int.class);
+  }
+
+  @Test
+  public void testStrings() {
+    assertEquals(Integer.valueOf(42), Converters.convert("42", int.class));
+    assertEquals(new BigDecimal("4.20"), Converters.convert("4.20", BigDecimal.class));
+    assertEquals(Boolean.TRUE, Converters.convert("TRUE", boolean.class));
+    assertEquals(Character.valueOf('x'), Converters.convert("x", char.class));
+    assertEquals("42", Converters.convert(42, String.class));
+    assertEquals("true", Converters.convert(true, String.class));
+  }
+
+  @Test(expected = HandlingException.class)
+  public void testInvalidString() {
+    Converters.convert("forty two", int.class);
+  }
+
+  @Test
+  public void testEnums() {
+    assertEquals(Color.GREEN, Converters.convert("GREEN", Color.class));
+    assertEquals("RED", Converters.convert(Color.RED, String.class));
+  }
+
+  @Test
+  public void testTime() {
+    assertEquals(LocalDate.of(2020, 2, 29), Converters.convert("2020-02-29", LocalDate.class));
+    assertEquals("2020-02-29", Converters.convert(LocalDate.of(2020, 2, 29), String.class));
+    Instant now = Instant.ofEpochMilli(System.currentTimeMillis());
+    assertEquals(now, Converters.convert(Date.from(now), Instant.class));
+    assertEquals(Date.from(now), Converters.convert(now, Date.class));
+  }
+
+  @Test
+  public void testUnsupported() {
+    assertFalse(Converters.converter(Object.class, Integer.class).isPresent());
+    assertFalse(Converters.converter(Money.class, String.class).isPresent());
+  }
+
+  @Test(expected = HandlingException.class)
+  public void testUnsupportedConversion() {
+    Converters.convert(new Object(), Integer.class);
+  }
+
+  @Test
+  public void testRegisteredConverter() {
+    Converters.register(BigDecimal.class, Money.class, Money::new);
+    Money money = Converters.convert(BigDecimal.ONE, Money.class);
+    assertEquals(BigDecimal.ONE, money.amount);
+    assertSame(Converters.converter(BigDecimal.class, Money.class).get(),
+        Converters.converter(BigDecimal.class, Money.class).get());
+  }
+
+  public interface Labeled {
+    String label();
+  }
+
+  public static class Tag implements Labeled {
+    @Override
+    public String label() {
+      return "tag";
+    }
+  }
+
+  public static class Label {
+    private final String text;
+
+    Label(String text) {
+      this.text = text;
+    }
+  }
+
+  @Test
+  public void testConverterForInterface() {
+    Converters.register(Labeled.class, Label.class, labeled -> new Label(labeled.label()));
+    assertEquals("tag", Converters.convert(new Tag(), Label.class).text);
+  }
+
+  public static class Badge {
+    private final String text;
+
+    Badge(String text) {
+      this.text = text;
+    }
+  }
+
+  @Test
+  public void testUnregister() {
+    Converters.register(Tag.class, Badge.class, tag -> new Badge(tag.label()));
+    assertEquals("tag", Converters.convert(new Tag(), Badge.class).text);
+    Converters.unregister(Tag.class, Badge.class);
+    assertFalse(Converters.converter(Tag.class, Badge.class).isPresent());
+
+    Converters.register(Tag.class, Badge.class, tag -> new Badge(tag.label()));
+    assertTrue(Converters.converter(Tag.class, Badge.class).isPresent());
+    Converters.unregister(Badge.class.getClassLoader());
+    assertFalse(Converters.converter(Tag.class, Badge.class).isPresent());
+  }
+
+}